@@ -0,0 +1,96 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Адаптивная модель скорости.
+ * Скорость растет с длиной змейки и подстраивается под время реакции игрока:
+ * время от появления нового яблока до первого нажатия клавиши направления.
+ * Быстрая реакция ускоряет игру, медленная — замедляет.
+ */
+public class AdaptiveSpeedModel implements SpeedModel {
+    private static final Logger logger = LogManager.getLogger(AdaptiveSpeedModel.class);
+
+    private static final double BASE_SPEED = 6.0;
+    private static final double SPEED_PER_SEGMENT = 0.25;
+    private static final double MIN_SPEED = 4.0;
+    private static final double MAX_SPEED = 30.0;
+
+    private static final double TARGET_REACTION_NANOS = 400_000_000.0;
+    private static final double MIN_REACTION_FACTOR = 0.75;
+    private static final double MAX_REACTION_FACTOR = 1.5;
+    private static final double REACTION_SMOOTHING = 0.3;
+
+    private long appleSpawnedAt = -1;
+    private long pausedAt = -1;
+    private double averageReactionNanos = -1;
+
+    @Override
+    public double ticksPerSecond(Game game) {
+        double speed = BASE_SPEED + SPEED_PER_SEGMENT * (game.getSnake().getLength() - 1);
+        if (averageReactionNanos > 0) {
+            speed *= clamp(TARGET_REACTION_NANOS / averageReactionNanos, MIN_REACTION_FACTOR, MAX_REACTION_FACTOR);
+        }
+        return clamp(speed, MIN_SPEED, MAX_SPEED);
+    }
+
+    @Override
+    public String getName() {
+        return "Адаптивно";
+    }
+
+    /**
+     * Отмечает появление нового яблока — начало замера реакции.
+     *
+     * @param now текущее время в наносекундах
+     */
+    public void onAppleSpawned(long now) {
+        appleSpawnedAt = now;
+    }
+
+    /**
+     * Отмечает постановку игры на паузу. Время паузы не входит во время реакции.
+     *
+     * @param now текущее время в наносекундах
+     */
+    public void onPaused(long now) {
+        pausedAt = now;
+    }
+
+    /**
+     * Отмечает снятие паузы: незавершенный замер реакции сдвигается на длительность паузы.
+     *
+     * @param now текущее время в наносекундах
+     */
+    public void onResumed(long now) {
+        if (pausedAt >= 0 && appleSpawnedAt >= 0) {
+            appleSpawnedAt += now - pausedAt;
+        }
+        pausedAt = -1;
+    }
+
+    /**
+     * Отмечает нажатие клавиши направления. Первое нажатие после появления яблока
+     * учитывается в сглаженном времени реакции.
+     *
+     * @param now текущее время в наносекундах
+     */
+    public void onPlayerInput(long now) {
+        if (appleSpawnedAt < 0) {
+            return;
+        }
+
+        double reaction = now - appleSpawnedAt;
+        appleSpawnedAt = -1;
+        averageReactionNanos = (averageReactionNanos < 0)
+                ? reaction
+                : averageReactionNanos + REACTION_SMOOTHING * (reaction - averageReactionNanos);
+        logger.debug("Время реакции: {} мс, среднее: {} мс",
+                Math.round(reaction / 1_000_000), Math.round(averageReactionNanos / 1_000_000));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -1,19 +1,18 @@
 package com.example.snakegame2;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * Класс, представляющий яблоко в игре.
- * Отвечает за генерацию позиции, отрисовку и проверку съедания.
+ * Отвечает за генерацию позиции и проверку съедания.
  */
 public class Apple {
     private static final Logger logger = LogManager.getLogger(Apple.class);
@@ -32,6 +31,16 @@ public class Apple {
         generateNewApple(width, height, null);
     }
 
+    /**
+     * Создает новое яблоко на поле с препятствиями.
+     *
+     * @param board игровое поле
+     */
+    public Apple(Board board) {
+        logger.info("Создание нового яблока на поле {}x{}", board.getWidth(), board.getHeight());
+        generateNewApple(board, null);
+    }
+
     /**
      * Генерирует новую позицию для яблока.
      * Использует Stream API для поиска свободных позиций.
@@ -41,6 +50,21 @@ public class Apple {
      * @param snake  змейка для исключения занятых позиций (может быть null)
      */
     public void generateNewApple(int width, int height, Snake snake) {
+        generateNewApple(width, height, snake, point -> true);
+    }
+
+    /**
+     * Генерирует новую позицию для яблока на поле с препятствиями.
+     * Яблоко не появляется в стенах и порталах.
+     *
+     * @param board игровое поле
+     * @param snake змейка для исключения занятых позиций (может быть null)
+     */
+    public void generateNewApple(Board board, Snake snake) {
+        generateNewApple(board.getWidth(), board.getHeight(), snake, board::isFree);
+    }
+
+    private void generateNewApple(int width, int height, Snake snake, Predicate<Point> allowed) {
         logger.debug("Генерация новой позиции для яблока...");
 
         Random rand = new Random();
@@ -57,6 +81,7 @@ public class Apple {
 
         // Фильтрация свободных позиций с использованием Stream API
         List<Point> freePositions = allPositions.stream()
+                .filter(allowed)
                 .filter(point -> snakeBody.stream().noneMatch(snakePoint -> snakePoint.equals(point)))
                 .collect(Collectors.toList());
 
@@ -71,23 +96,6 @@ public class Apple {
         }
     }
 
-    /**
-     * Отрисовывает яблоко на графическом контексте.
-     *
-     * @param gc графический контекст для отрисовки
-     */
-    public void draw(GraphicsContext gc) {
-        if (position == null) {
-            logger.error("Попытка отрисовать яблоко с null позицией!");
-            return;
-        }
-
-        gc.setFill(Color.RED);
-        gc.fillRect(position.getX(), position.getY(), size, size);
-
-        logger.trace("Яблоко отрисовано в {}", position);
-    }
-
     /**
      * Проверяет, съедено ли яблоко змейкой.
      *
@@ -116,4 +124,6 @@ public class Apple {
     public Point getPosition() {
         return position;
     }
+
+    public int getSize() { return size; }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.snakegame2;
+
+/**
+ * Простой автопилот змейки для режимов без игрока (наблюдатель, консольный прогон).
+ * Ведет змейку к яблоку: сначала по X, затем по Y.
+ */
+public final class Autopilot {
+
+    private Autopilot() {
+    }
+
+    /**
+     * Поворачивает змейку в сторону яблока.
+     * Разворот на 180 градусов игнорируется самой змейкой.
+     *
+     * @param game игра, змейкой которой нужно управлять
+     */
+    public static void steer(Game game) {
+        Point head = game.getSnake().getHead();
+        Point target = game.getApple().getPosition();
+        if (head.getX() != target.getX()) {
+            game.getSnake().setDirection(Integer.signum(target.getX() - head.getX()), 0);
+        } else if (head.getY() != target.getY()) {
+            game.getSnake().setDirection(0, Integer.signum(target.getY() - head.getY()));
+        }
+    }
+}
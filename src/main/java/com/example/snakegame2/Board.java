@@ -0,0 +1,353 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Класс, представляющий топологию игрового поля.
+ * Поле разбито на клетки; для каждой клетки и каждого направления заранее
+ * вычисляется следующая клетка, новое направление и тип перехода
+ * (обычный шаг, отражение, телепорт). Благодаря этому ход змейки
+ * в любом режиме сводится к одному обращению к таблице.
+ *
+ * <p>Карта препятствий загружается из текстового файла: каждая строка — ряд клеток,
+ * {@code .} — пустая клетка, {@code #} — стена, цифры {@code 0-9} — пары порталов
+ * (каждая цифра встречается ровно два раза). Строки, начинающиеся с {@code ;}, пропускаются.
+ */
+public class Board {
+    private static final Logger logger = LogManager.getLogger(Board.class);
+
+    /** Режим поведения на краю поля. */
+    public enum Mode {
+        /** Отражение от края поля (исходный режим игры). */
+        REFLECT,
+        /** Выход с одной стороны поля и появление с противоположной. */
+        WRAP
+    }
+
+    public static final int UP = 0, RIGHT = 1, DOWN = 2, LEFT = 3;
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    /** Переход с отражением: направление разворачивается, включается неуязвимость. */
+    public static final int REFLECTED = 1;
+    /** Переход через портал. */
+    public static final int TELEPORTED = 2;
+
+    private static final byte EMPTY = 0;
+    private static final byte WALL = 1;
+
+    private final Mode mode;
+    private final int columns, rows, cellSize;
+    private final byte[] cells;
+    private final int[] portalPartner;
+    private final int[] nextCell;
+    private final byte[] nextDirection;
+    private final byte[] transition;
+    private final Point[] points;
+    private final int[] walls;
+    private final int[] portals;
+
+    private Board(Mode mode, int columns, int rows, int cellSize, byte[] cells, int[] portalPartner) {
+        this.mode = mode;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellSize = cellSize;
+        this.cells = cells;
+        this.portalPartner = portalPartner;
+
+        int cellCount = columns * rows;
+        this.points = new Point[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            points[cell] = new Point((cell % columns) * cellSize, (cell / columns) * cellSize);
+        }
+
+        this.nextCell = new int[cellCount * 4];
+        this.nextDirection = new byte[cellCount * 4];
+        this.transition = new byte[cellCount * 4];
+        for (int cell = 0; cell < cellCount; cell++) {
+            for (int direction = 0; direction < 4; direction++) {
+                buildEntry(cell, direction);
+            }
+        }
+
+        this.walls = cellsMatching(cell -> cells[cell] == WALL);
+        this.portals = cellsMatching(cell -> portalPartner[cell] >= 0);
+        logger.info("Поле {}x{} клеток создано: режим {}, стен {}, порталов {}",
+                columns, rows, mode, walls.length, portals.length);
+    }
+
+    /**
+     * Создает пустое поле указанного размера в пикселях.
+     *
+     * @param width    ширина поля в пикселях
+     * @param height   высота поля в пикселях
+     * @param mode     режим поведения на краю поля
+     * @param cellSize размер клетки в пикселях
+     * @return новое поле
+     */
+    public static Board create(int width, int height, Mode mode, int cellSize) {
+        int columns = width / cellSize;
+        int rows = height / cellSize;
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Поле " + width + "x" + height + " меньше одной клетки");
+        }
+        int[] partners = new int[columns * rows];
+        Arrays.fill(partners, -1);
+        return new Board(mode, columns, rows, cellSize, new byte[columns * rows], partners);
+    }
+
+    /**
+     * Загружает карту препятствий из текстового файла.
+     *
+     * @param file     путь к файлу карты
+     * @param mode     режим поведения на краю поля
+     * @param cellSize размер клетки в пикселях
+     * @return новое поле
+     * @throws IOException при ошибке чтения файла
+     */
+    public static Board load(Path file, Mode mode, int cellSize) throws IOException {
+        logger.info("Загрузка карты {}", file);
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.startsWith(";"))
+                .map(String::stripTrailing)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+        return parse(lines, mode, cellSize);
+    }
+
+    /**
+     * Разбирает карту препятствий из строк.
+     *
+     * @param lines    строки карты, по одной на ряд клеток
+     * @param mode     режим поведения на краю поля
+     * @param cellSize размер клетки в пикселях
+     * @return новое поле
+     */
+    public static Board parse(List<String> lines, Mode mode, int cellSize) {
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Карта пуста");
+        }
+
+        int columns = lines.get(0).length();
+        int rows = lines.size();
+        byte[] cells = new byte[columns * rows];
+        int[] partners = new int[columns * rows];
+        Arrays.fill(partners, -1);
+        int[] firstPortal = new int[10];
+        Arrays.fill(firstPortal, -1);
+
+        for (int y = 0; y < rows; y++) {
+            String line = lines.get(y);
+            if (line.length() != columns) {
+                throw new IllegalArgumentException("Ряд " + (y + 1) + " карты имеет длину " + line.length()
+                        + ", ожидается " + columns);
+            }
+            for (int x = 0; x < columns; x++) {
+                int cell = y * columns + x;
+                char c = line.charAt(x);
+                if (c == '#') {
+                    cells[cell] = WALL;
+                } else if (c >= '0' && c <= '9') {
+                    int pair = c - '0';
+                    if (firstPortal[pair] < 0) {
+                        firstPortal[pair] = cell;
+                    } else if (partners[firstPortal[pair]] < 0) {
+                        partners[firstPortal[pair]] = cell;
+                        partners[cell] = firstPortal[pair];
+                    } else {
+                        throw new IllegalArgumentException("Портал " + c + " встречается больше двух раз");
+                    }
+                } else if (c != '.') {
+                    throw new IllegalArgumentException("Неизвестный символ карты: '" + c + "'");
+                }
+            }
+        }
+
+        for (int pair = 0; pair < firstPortal.length; pair++) {
+            if (firstPortal[pair] >= 0 && partners[firstPortal[pair]] < 0) {
+                throw new IllegalArgumentException("У портала " + pair + " нет пары");
+            }
+        }
+
+        return new Board(mode, columns, rows, cellSize, cells, partners);
+    }
+
+    private void buildEntry(int cell, int direction) {
+        int entry = cell * 4 + direction;
+        int x = cell % columns;
+        int y = cell / columns;
+
+        int target = step(x, y, direction);
+        int resultDirection = direction;
+        int kind = 0;
+
+        if (target < 0) {
+            // Край поля или стена: отражаемся, как луч света при нормальном падении
+            resultDirection = (direction + 2) % 4;
+            target = step(x, y, resultDirection);
+            kind = REFLECTED;
+            if (target < 0) {
+                // Тупик: разворачиваемся на месте
+                target = cell;
+            }
+        }
+
+        if (portalPartner[target] >= 0 && target != cell) {
+            target = portalPartner[target];
+            kind |= TELEPORTED;
+        }
+
+        nextCell[entry] = target;
+        nextDirection[entry] = (byte) resultDirection;
+        transition[entry] = (byte) kind;
+    }
+
+    /**
+     * Возвращает соседнюю клетку с учетом режима поля.
+     *
+     * @return номер клетки или -1, если сосед за краем поля или в стене
+     */
+    private int step(int x, int y, int direction) {
+        int nx = x + DX[direction];
+        int ny = y + DY[direction];
+        if (mode == Mode.WRAP) {
+            nx = Math.floorMod(nx, columns);
+            ny = Math.floorMod(ny, rows);
+        } else if (nx < 0 || nx >= columns || ny < 0 || ny >= rows) {
+            return -1;
+        }
+        int target = ny * columns + nx;
+        return (cells[target] == WALL) ? -1 : target;
+    }
+
+    private int[] cellsMatching(IntPredicate predicate) {
+        return IntStream.range(0, cells.length).filter(predicate).toArray();
+    }
+
+    /**
+     * Возвращает номер строки таблицы переходов для клетки и направления.
+     *
+     * @param cell      номер клетки
+     * @param direction направление ({@link #UP}, {@link #RIGHT}, {@link #DOWN}, {@link #LEFT})
+     * @return номер строки таблицы
+     */
+    public static int entry(int cell, int direction) {
+        return cell * 4 + direction;
+    }
+
+    public int nextCell(int entry) { return nextCell[entry]; }
+
+    public int nextDirection(int entry) { return nextDirection[entry]; }
+
+    public int transition(int entry) { return transition[entry]; }
+
+    /**
+     * Возвращает заранее созданную точку левого верхнего угла клетки.
+     *
+     * @param cell номер клетки
+     * @return точка клетки в пикселях
+     */
+    public Point point(int cell) {
+        return points[cell];
+    }
+
+    /**
+     * Возвращает номер клетки, содержащей точку.
+     *
+     * @param point точка в пикселях
+     * @return номер клетки
+     */
+    public int cellAt(Point point) {
+        int x = point.getX() / cellSize;
+        int y = point.getY() / cellSize;
+        if (point.getX() < 0 || point.getY() < 0 || x >= columns || y >= rows) {
+            throw new IllegalArgumentException("Точка " + point + " вне поля");
+        }
+        return y * columns + x;
+    }
+
+    /**
+     * Проверяет, свободна ли клетка для змейки и яблока (не стена и не портал).
+     *
+     * @param point точка в пикселях
+     * @return true если клетка свободна
+     */
+    public boolean isFree(Point point) {
+        int cell = cellAt(point);
+        return cells[cell] == EMPTY && portalPartner[cell] < 0;
+    }
+
+    /**
+     * Возвращает ближайшую к указанной свободную клетку (поиск по порядку клеток).
+     *
+     * @param point желаемая точка в пикселях
+     * @return свободная точка
+     */
+    public Point nearestFree(Point point) {
+        int start = cellAt(point);
+        for (int i = 0; i < cells.length; i++) {
+            Point candidate = points[(start + i) % cells.length];
+            if (isFree(candidate)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("На поле нет свободных клеток");
+    }
+
+    /**
+     * Возвращает направление по смещениям по осям.
+     *
+     * @param dx смещение по X (-1, 0, 1)
+     * @param dy смещение по Y (-1, 0, 1)
+     * @return направление или -1, если смещение не соответствует ни одному из четырех направлений
+     */
+    public static int direction(int dx, int dy) {
+        for (int direction = 0; direction < 4; direction++) {
+            if (DX[direction] == dx && DY[direction] == dy) {
+                return direction;
+            }
+        }
+        return -1;
+    }
+
+    public static int dx(int direction) { return DX[direction]; }
+
+    public static int dy(int direction) { return DY[direction]; }
+
+    /**
+     * Возвращает номера клеток со стенами без копирования (для отрисовки, массив не изменять).
+     *
+     * @return номера клеток стен
+     */
+    int[] walls() {
+        return walls;
+    }
+
+    /**
+     * Возвращает номера клеток с порталами без копирования (для отрисовки, массив не изменять).
+     *
+     * @return номера клеток порталов
+     */
+    int[] portals() {
+        return portals;
+    }
+
+    public Mode getMode() { return mode; }
+
+    public int getWidth() { return columns * cellSize; }
+
+    public int getHeight() { return rows * cellSize; }
+
+    public int getCellSize() { return cellSize; }
+}
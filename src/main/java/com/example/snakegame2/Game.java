@@ -0,0 +1,144 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Класс, представляющий состояние одной игры без привязки к окну.
+ * Хранит поле, змейку и яблоко и выполняет игровой такт; от JavaFX не зависит,
+ * отрисовкой занимается {@link GameRenderer}.
+ * Используется игровым окном, режимом наблюдателя и консольным прогоном.
+ */
+public class Game {
+    private static final Logger logger = LogManager.getLogger(Game.class);
+
+    /** Количество последних тактов, хранимых для покадрового просмотра. */
+    public static final int HISTORY_CAPACITY = 1024;
+    /** Размер клетки поля в пикселях. */
+    public static final int CELL_SIZE = 20;
+
+    private final int width, height;
+    private final Board board;
+    private final Snake snake;
+    private final Apple apple;
+    private final TickHistory history = new TickHistory(HISTORY_CAPACITY);
+    private GameEventBus eventBus;
+    private boolean gameOver = false;
+
+    /**
+     * Создает новую игру на поле указанного размера.
+     * Змейка появляется в центре поля.
+     *
+     * @param width  ширина игрового поля
+     * @param height высота игрового поля
+     */
+    public Game(int width, int height) {
+        this(Board.create(width, height, Board.Mode.REFLECT, CELL_SIZE));
+    }
+
+    /**
+     * Создает новую игру на заданном поле.
+     * Змейка появляется в ближайшей к центру свободной клетке.
+     *
+     * @param board игровое поле с режимом края и препятствиями
+     */
+    public Game(Board board) {
+        this.board = board;
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+        Point start = board.nearestFree(board.point(board.cellAt(new Point(width / 2, height / 2))));
+        this.snake = new Snake(start.getX(), start.getY());
+        this.apple = new Apple(board);
+    }
+
+    /**
+     * Выполняет один игровой такт: движение змейки, проверку съедания яблока и роста.
+     * Изменения такта записываются в историю.
+     *
+     * @return true если игра окончена, false в противном случае
+     */
+    public boolean tick() {
+        if (gameOver) {
+            return true;
+        }
+
+        Point tail = snake.getTail();
+        gameOver = snake.move(board);
+
+        if (gameOver) {
+            // Голова не сдвинулась: записываем клетку, в которой произошло столкновение
+            Point target = snake.getLastTarget();
+            recordTick(target.getX(), target.getY(), tail, false);
+            publishTransition();
+            publish(GameEventType.GAME_OVER, target, snake.getLength());
+            logger.debug("Игра окончена, длина змейки: {}", snake.getLength());
+            return true;
+        }
+
+        boolean grew = false;
+        Point eatenAt = null;
+        if (apple.isEaten(snake)) {
+            eatenAt = apple.getPosition();
+            snake.grow();
+            apple.generateNewApple(board, snake);
+            grew = true;
+        }
+
+        Point head = snake.getHead();
+        recordTick(head.getX(), head.getY(), tail, grew);
+
+        publishTransition();
+        if (grew) {
+            publish(GameEventType.APPLE_EATEN, eatenAt, snake.getLength());
+            publish(GameEventType.SNAKE_GROWN, head, snake.getLength());
+            publish(GameEventType.APPLE_SPAWNED, apple.getPosition(), snake.getLength());
+        }
+        return false;
+    }
+
+    private void publishTransition() {
+        int transition = snake.getLastTransition();
+        if ((transition & Board.REFLECTED) != 0) {
+            publish(GameEventType.BOUNDARY_REFLECTED, snake.getLastTarget(), snake.getLength());
+        }
+        if ((transition & Board.TELEPORTED) != 0) {
+            publish(GameEventType.TELEPORTED, snake.getLastTarget(), snake.getLength());
+        }
+    }
+
+    private void publish(GameEventType type, Point point, int value) {
+        if (eventBus != null) {
+            eventBus.publish(type, history.getTotalTicks(), point.getX(), point.getY(), value);
+        }
+    }
+
+    private void recordTick(int headX, int headY, Point tail, boolean grew) {
+        Point applePosition = apple.getPosition();
+        history.record(headX, headY, tail.getX(), tail.getY(), grew, gameOver,
+                snake.getDirectionX(), snake.getDirectionY(), snake.getInvulnerabilityFrames(),
+                applePosition.getX(), applePosition.getY());
+    }
+
+    public Board getBoard() { return board; }
+
+    public Snake getSnake() { return snake; }
+
+    public Apple getApple() { return apple; }
+
+    public TickHistory getHistory() { return history; }
+
+    /**
+     * Подключает шину, в которую игра публикует события каждого такта.
+     *
+     * @param eventBus шина событий или null, чтобы отключить публикацию
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    public boolean isGameOver() { return gameOver; }
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+}
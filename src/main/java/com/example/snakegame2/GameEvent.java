@@ -0,0 +1,46 @@
+package com.example.snakegame2;
+
+/**
+ * Игровое событие — ячейка кольцевого буфера {@link GameEventBus}.
+ * Объекты создаются заранее и переиспользуются, поэтому обработчик
+ * не должен сохранять ссылку на событие после возврата из него.
+ */
+public class GameEvent {
+    // Номер события в шине; -1 пока ячейка перезаписывается
+    volatile long sequence = -1;
+
+    GameEventType type;
+    long tick;
+    int x, y;
+    int value;
+
+    void copyFrom(GameEvent other) {
+        type = other.type;
+        tick = other.tick;
+        x = other.x;
+        y = other.y;
+        value = other.value;
+    }
+
+    public long getSequence() { return sequence; }
+
+    public GameEventType getType() { return type; }
+
+    /**
+     * Возвращает номер игрового такта, на котором произошло событие.
+     *
+     * @return номер такта
+     */
+    public long getTick() { return tick; }
+
+    public int getX() { return x; }
+
+    public int getY() { return y; }
+
+    public int getValue() { return value; }
+
+    @Override
+    public String toString() {
+        return type + "@" + tick + " (" + x + ", " + y + ") " + value;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Шина игровых событий: кольцевой буфер с одним производителем и несколькими потребителями.
+ * Ячейки событий создаются один раз, публикация не создает объектов и не берет блокировок.
+ * Каждый подписчик читает буфер в своем потоке со своей позицией, поэтому
+ * количество подписчиков не влияет на время игрового такта.
+ *
+ * <p>Производитель никогда не ждет потребителей: если подписчик отстал больше чем на
+ * размер буфера, пропущенные события не доставляются ему и учитываются в счетчике потерь.
+ * Публиковать события можно только из одного потока (игрового цикла).
+ */
+public class GameEventBus implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(GameEventBus.class);
+
+    /** Размер буфера по умолчанию (степень двойки). */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int SPIN_TRIES = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final GameEvent[] slots;
+    private final int mask;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private long next = 0;
+
+    /**
+     * Создает шину с буфером по умолчанию.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает шину с буфером указанного размера.
+     *
+     * @param capacity размер буфера, степень двойки
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Размер буфера должен быть степенью двойки: " + capacity);
+        }
+        this.slots = new GameEvent[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new GameEvent();
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Публикует событие. Вызывается только из потока игрового цикла.
+     *
+     * @param type  тип события
+     * @param tick  номер игрового такта
+     * @param x     координата X события
+     * @param y     координата Y события
+     * @param value дополнительное значение (например, длина змейки)
+     */
+    public void publish(GameEventType type, long tick, int x, int y, int value) {
+        long sequence = next++;
+        GameEvent slot = slots[(int) sequence & mask];
+
+        // Помечаем ячейку как перезаписываемую, чтобы отставший читатель не принял смесь полей
+        slot.sequence = -1;
+        VarHandle.storeStoreFence();
+        slot.type = type;
+        slot.tick = tick;
+        slot.x = x;
+        slot.y = y;
+        slot.value = value;
+        slot.sequence = sequence;
+
+        cursor.lazySet(sequence);
+    }
+
+    /**
+     * Подписывает обработчик на события, опубликованные после подписки.
+     * Обработчик вызывается в отдельном потоке-демоне.
+     *
+     * @param name     имя подписчика (используется в имени потока)
+     * @param listener обработчик событий
+     * @return подписка, через которую можно узнать потери и отписаться
+     */
+    public Subscription subscribe(String name, Consumer<GameEvent> listener) {
+        Subscription subscription = new Subscription(name, listener, cursor.get() + 1);
+        subscriptions.add(subscription);
+        subscription.thread.start();
+        logger.info("Подписчик шины событий '{}' запущен", name);
+        return subscription;
+    }
+
+    /**
+     * Возвращает номер последнего опубликованного события.
+     *
+     * @return номер события или -1, если событий еще не было
+     */
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Останавливает всех подписчиков.
+     */
+    @Override
+    public void close() {
+        subscriptions.forEach(Subscription::close);
+        subscriptions.clear();
+    }
+
+    /**
+     * Подписка на шину: поток, читающий буфер со своей позиции.
+     */
+    public class Subscription implements AutoCloseable {
+        private final String name;
+        private final Consumer<GameEvent> listener;
+        private final GameEvent event = new GameEvent();
+        private final Thread thread;
+        private final AtomicLong lost = new AtomicLong();
+        private volatile long processed;
+        private volatile boolean running = true;
+        private long nextSequence;
+
+        private Subscription(String name, Consumer<GameEvent> listener, long nextSequence) {
+            this.name = name;
+            this.listener = listener;
+            this.nextSequence = nextSequence;
+            this.processed = nextSequence;
+            this.thread = new Thread(this::run, "GameEventBus-" + name);
+            this.thread.setDaemon(true);
+        }
+
+        private void run() {
+            int idle = 0;
+            while (running) {
+                long available = cursor.get();
+                if (available < nextSequence) {
+                    if (++idle < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    continue;
+                }
+                idle = 0;
+
+                if (available - nextSequence >= slots.length) {
+                    long skipped = available - slots.length + 1 - nextSequence;
+                    lost.addAndGet(skipped);
+                    nextSequence += skipped;
+                    logger.warn("Подписчик '{}' отстал, пропущено событий: {}", name, skipped);
+                }
+
+                while (nextSequence <= available) {
+                    if (read(nextSequence)) {
+                        deliver();
+                    } else {
+                        lost.incrementAndGet();
+                    }
+                    nextSequence++;
+                }
+                processed = nextSequence;
+            }
+        }
+
+        /**
+         * Копирует ячейку в локальное событие и проверяет, что она не была перезаписана во время чтения.
+         */
+        private boolean read(long sequence) {
+            GameEvent slot = slots[(int) sequence & mask];
+            if (slot.sequence != sequence) {
+                return false;
+            }
+            event.copyFrom(slot);
+            VarHandle.loadLoadFence();
+            if (slot.sequence != sequence) {
+                return false;
+            }
+            event.sequence = sequence;
+            return true;
+        }
+
+        private void deliver() {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                logger.error("Ошибка в подписчике '{}' на событии {}: {}", name, event, e.getMessage(), e);
+            }
+        }
+
+        public String getName() { return name; }
+
+        /**
+         * Возвращает количество событий, пропущенных из-за отставания подписчика.
+         *
+         * @return количество потерянных событий
+         */
+        public long getLost() { return lost.get(); }
+
+        /**
+         * Возвращает номер события, которое подписчик обработает следующим.
+         *
+         * @return номер следующего события
+         */
+        public long getProcessed() { return processed; }
+
+        /**
+         * Останавливает поток подписчика и ждет его завершения.
+         */
+        @Override
+        public void close() {
+            running = false;
+            subscriptions.remove(this);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            logger.info("Подписчик шины событий '{}' остановлен", name);
+        }
+    }
+}
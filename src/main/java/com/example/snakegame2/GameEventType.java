@@ -0,0 +1,19 @@
+package com.example.snakegame2;
+
+/**
+ * Тип игрового события, публикуемого в шину {@link GameEventBus}.
+ */
+public enum GameEventType {
+    /** Змейка съела яблоко. Координаты — клетка яблока. */
+    APPLE_EATEN,
+    /** Змейка выросла. Значение — новая длина. */
+    SNAKE_GROWN,
+    /** Появилось новое яблоко. Координаты — его клетка. */
+    APPLE_SPAWNED,
+    /** Змейка отразилась от границы или стены. Координаты — новая голова. */
+    BOUNDARY_REFLECTED,
+    /** Змейка прошла через портал. Координаты — клетка выхода. */
+    TELEPORTED,
+    /** Игра окончена. Координаты — клетка столкновения, значение — длина змейки. */
+    GAME_OVER
+}
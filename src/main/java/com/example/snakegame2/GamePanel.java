@@ -9,31 +9,53 @@ import javafx.scene.text.Font;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class GamePanel extends StackPane {
+import java.util.Deque;
+
+public class GamePanel extends StackPane implements AutoCloseable {
     private static final Logger logger = LogManager.getLogger(GamePanel.class);
 
     private final Canvas canvas;
     private final GraphicsContext gc;
-    private Snake snake;
-    private Apple apple;
+    private final Game game;
+    private final GameEventBus eventBus = new GameEventBus();
+    private final GameStats stats = new GameStats();
+    private final Snake snake;
     private final int width, height;
-    private boolean gameOver = false;
 
-    private static final int SLOW_SPEED = 5;
-    private static final int MEDIUM_SPEED = 10;
-    private static final int FAST_SPEED = 15;
-    private int speed = MEDIUM_SPEED;
+    // Режимы скорости: три постоянных и адаптивный, подстраивающийся под длину змейки и реакцию игрока
+    private final AdaptiveSpeedModel adaptiveSpeed = new AdaptiveSpeedModel();
+    private final SpeedModel[] speedModes = {
+            SpeedModel.fixed("Медленно", 5),
+            SpeedModel.fixed("Средне", 10),
+            SpeedModel.fixed("Быстро", 15),
+            adaptiveSpeed
+    };
     private int currentSpeedMode = 1;
 
+    // Состояние изменилось с последней отрисовки
+    private boolean dirty = true;
+
+    // Покадровый просмотр истории: пауза и возраст показываемого такта
+    private boolean paused = false;
+    private int replayAge = 0;
+
     public GamePanel(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(Board.create(width, height, Board.Mode.REFLECT, Game.CELL_SIZE));
+    }
+
+    public GamePanel(Board board) {
+        this.width = board.getWidth();
+        this.height = board.getHeight();
 
         logger.info("Инициализация GamePanel {}x{}", width, height);
 
-        // Создаем змейку и яблоко
-        this.snake = new Snake(width / 2, height / 2);
-        this.apple = new Apple(width, height);
+        // Создаем игру со змейкой и яблоком
+        this.game = new Game(board);
+        game.setEventBus(eventBus);
+        eventBus.subscribe("stats", stats);
+        this.snake = game.getSnake();
+        // Первое яблоко появляется вместе с игрой: с этого момента замеряем реакцию
+        adaptiveSpeed.onAppleSpawned(System.nanoTime());
 
         this.canvas = new Canvas(width, height);
         this.gc = canvas.getGraphicsContext2D();
@@ -50,75 +72,173 @@ public class GamePanel extends StackPane {
     }
 
     private void handleKeyPress(KeyCode keyCode) {
-        if (gameOver) {
+        switch (keyCode) {
+            case P -> {
+                togglePause();
+                return;
+            }
+            case LEFT -> {
+                scrubHistory(1);
+                return;
+            }
+            case RIGHT -> {
+                scrubHistory(-1);
+                return;
+            }
+        }
+
+        if (game.isGameOver() || paused) {
             return;
         }
 
         switch (keyCode) {
-            case W -> snake.setDirection(0, -1);
-            case S -> snake.setDirection(0, 1);
-            case A -> snake.setDirection(-1, 0);
-            case D -> snake.setDirection(1, 0);
+            case W -> turn(0, -1);
+            case S -> turn(0, 1);
+            case A -> turn(-1, 0);
+            case D -> turn(1, 0);
             case UP -> switchSpeedMode(true);
             case DOWN -> switchSpeedMode(false);
         }
     }
 
+    private void turn(int dx, int dy) {
+        adaptiveSpeed.onPlayerInput(System.nanoTime());
+        snake.setDirection(dx, dy);
+    }
+
     private void switchSpeedMode(boolean increase) {
-        if (increase) {
-            currentSpeedMode = (currentSpeedMode + 1) % 3;
+        int count = speedModes.length;
+        currentSpeedMode = (currentSpeedMode + (increase ? 1 : count - 1)) % count;
+        dirty = true;
+        logger.info("Режим скорости: {}", speedModes[currentSpeedMode].getName());
+    }
+
+    /**
+     * Включает или выключает паузу с просмотром истории тактов.
+     * Пауза доступна и после конца игры, чтобы разобрать последние такты.
+     */
+    private void togglePause() {
+        paused = !paused;
+        replayAge = 0;
+
+        if (paused) {
+            adaptiveSpeed.onPaused(System.nanoTime());
+            logger.info("Пауза: просмотр истории ({} тактов)", game.getHistory().size());
+            drawReplay();
         } else {
-            currentSpeedMode = (currentSpeedMode + 2) % 3;
+            adaptiveSpeed.onResumed(System.nanoTime());
+            logger.info("Пауза снята");
+            if (game.isGameOver()) {
+                drawGameOver();
+            } else {
+                draw();
+            }
         }
-        updateSpeed();
     }
 
-    private void updateSpeed() {
-        switch (currentSpeedMode) {
-            case 0 -> speed = SLOW_SPEED;
-            case 1 -> speed = MEDIUM_SPEED;
-            case 2 -> speed = FAST_SPEED;
+    /**
+     * Перематывает историю на паузе.
+     *
+     * @param ticks количество тактов назад (отрицательное — вперед)
+     */
+    private void scrubHistory(int ticks) {
+        TickHistory history = game.getHistory();
+        if (!paused || history.size() == 0) {
+            return;
         }
+
+        replayAge = Math.max(0, Math.min(history.size() - 1, replayAge + ticks));
+        logger.debug("Просмотр такта -{}", replayAge);
+        drawReplay();
     }
 
-    public void gameLoop() {
-        if (gameOver) {
+    /**
+     * Выполняет один игровой такт без перерисовки.
+     * За один кадр может выполняться несколько тактов.
+     */
+    public void update() {
+        if (game.isGameOver() || paused) {
             return;
         }
 
-        gameOver = snake.move(width, height);
+        boolean over = game.tick();
+        dirty = true;
+        if (!over && game.getHistory().isGrew(0)) {
+            adaptiveSpeed.onAppleSpawned(System.nanoTime());
+        }
+    }
 
-        if (gameOver) {
-            drawGameOver();
+    /**
+     * Перерисовывает поле, если с прошлой отрисовки выполнялись такты или сменился режим скорости.
+     */
+    public void render() {
+        if (!dirty || paused) {
             return;
         }
+        dirty = false;
 
-        if (apple.isEaten(snake)) {
-            snake.grow();
-            apple.generateNewApple(width, height, snake);
+        if (game.isGameOver()) {
+            drawGameOver();
+        } else {
+            draw();
         }
-
-        draw();
     }
 
     private void draw() {
         gc.setFill(Color.BLACK);
         gc.fillRect(0, 0, width, height);
 
-        snake.draw(gc);
-        apple.draw(gc);
+        GameRenderer.draw(gc, game);
 
         // Информация
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font("Arial", 14));
         gc.fillText("Длина: " + snake.getLength(), 10, 20);
-        gc.fillText("Скорость: " +
-                switch(currentSpeedMode) {
-                    case 0 -> "Медленно";
-                    case 1 -> "Средне";
-                    case 2 -> "Быстро";
-                    default -> "?";
-                }, 10, 40);
+        gc.fillText(String.format("Скорость: %s (%.1f такт/с)",
+                speedModes[currentSpeedMode].getName(), getTicksPerSecond()), 10, 40);
+        gc.fillText("Яблок: " + stats.getApplesEaten() + "  Отражений: " + stats.getReflections(), 10, 60);
+    }
+
+    private void drawReplay() {
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, width, height);
+
+        TickHistory history = game.getHistory();
+        gc.setFont(Font.font("Arial", 14));
+        if (history.size() == 0) {
+            gc.setFill(Color.WHITE);
+            gc.fillText("История пуста", 10, 20);
+            return;
+        }
+
+        GameRenderer.drawBoard(gc, game.getBoard());
+
+        int size = snake.getSize();
+        Deque<Point> body = history.reconstructBody(snake.getBody(), replayAge);
+        gc.setFill(Color.GREEN);
+        body.forEach(segment -> gc.fillRect(segment.getX(), segment.getY(), size, size));
+        gc.setFill(Color.LIME);
+        gc.fillRect(body.getFirst().getX(), body.getFirst().getY(), size, size);
+
+        gc.setFill(Color.RED);
+        gc.fillRect(history.getAppleX(replayAge), history.getAppleY(replayAge), size, size);
+
+        if (history.isGameOver(replayAge)) {
+            gc.setStroke(Color.ORANGE);
+            gc.setLineWidth(3);
+            gc.strokeRect(history.getHeadX(replayAge), history.getHeadY(replayAge), size, size);
+        }
+
+        gc.setFill(Color.WHITE);
+        gc.fillText("ПАУЗА: такт " + (history.getTotalTicks() - replayAge)
+                + " (назад " + replayAge + " из " + (history.size() - 1) + ")", 10, 20);
+        gc.fillText("Длина: " + body.size()
+                + "  Направление: X=" + history.getDirectionX(replayAge)
+                + ", Y=" + history.getDirectionY(replayAge), 10, 40);
+        gc.fillText("Неуязвимость: " + history.getInvulnerabilityFrames(replayAge)
+                + (history.isGrew(replayAge) ? "  Рост" : "")
+                + (history.isGameOver(replayAge) ? "  Столкновение" : ""), 10, 60);
+        gc.fillText("←/→ — перемотка, P — продолжить", 10, height - 10);
     }
 
     private void drawGameOver() {
@@ -134,7 +254,30 @@ public class GamePanel extends StackPane {
         gc.fillText("Длина: " + snake.getLength(), width / 2 - 80, height / 2 + 60);
     }
 
-    public int getSpeed() {
-        return speed;
+    /**
+     * Возвращает шину событий игры, на которую могут подписываться
+     * звук, статистика, сеть и другие обработчики.
+     *
+     * @return шина событий
+     */
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Останавливает подписчиков шины событий при закрытии окна.
+     */
+    @Override
+    public void close() {
+        eventBus.close();
+    }
+
+    /**
+     * Возвращает текущую скорость игры по выбранному режиму.
+     *
+     * @return количество тактов в секунду
+     */
+    public double getTicksPerSecond() {
+        return speedModes[currentSpeedMode].ticksPerSecond(game);
     }
 }
\ No newline at end of file
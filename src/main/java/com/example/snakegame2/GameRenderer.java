@@ -0,0 +1,85 @@
+package com.example.snakegame2;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Отрисовка игры на холсте JavaFX.
+ * Классы ядра игры (Game, Board, Snake, Apple) не зависят от JavaFX,
+ * поэтому консольный прогон и native-image собираются без графики;
+ * вся отрисовка состояния игры собрана здесь и используется панелями.
+ */
+public final class GameRenderer {
+    private static final Logger logger = LogManager.getLogger(GameRenderer.class);
+
+    private GameRenderer() {
+    }
+
+    /**
+     * Отрисовывает поле, змейку и яблоко в координатах игрового поля.
+     * Фон и информационная панель рисуются вызывающим кодом.
+     *
+     * @param gc   графический контекст для отрисовки
+     * @param game игра
+     */
+    public static void draw(GraphicsContext gc, Game game) {
+        drawBoard(gc, game.getBoard());
+        drawSnake(gc, game.getSnake());
+        drawApple(gc, game.getApple());
+    }
+
+    /**
+     * Отрисовывает стены и порталы.
+     *
+     * @param gc    графический контекст для отрисовки
+     * @param board игровое поле
+     */
+    public static void drawBoard(GraphicsContext gc, Board board) {
+        int cellSize = board.getCellSize();
+        gc.setFill(Color.GRAY);
+        for (int cell : board.walls()) {
+            Point point = board.point(cell);
+            gc.fillRect(point.getX(), point.getY(), cellSize, cellSize);
+        }
+        gc.setFill(Color.MEDIUMPURPLE);
+        for (int cell : board.portals()) {
+            Point point = board.point(cell);
+            gc.fillOval(point.getX(), point.getY(), cellSize, cellSize);
+        }
+    }
+
+    /**
+     * Отрисовывает змейку.
+     *
+     * @param gc    графический контекст для отрисовки
+     * @param snake змейка
+     */
+    public static void drawSnake(GraphicsContext gc, Snake snake) {
+        int size = snake.getSize();
+        gc.setFill(Color.GREEN);
+        for (Point segment : snake.getSegments()) {
+            gc.fillRect(segment.getX(), segment.getY(), size, size);
+        }
+        logger.trace("Змейка отрисована ({} сегментов)", snake.getLength());
+    }
+
+    /**
+     * Отрисовывает яблоко.
+     *
+     * @param gc    графический контекст для отрисовки
+     * @param apple яблоко
+     */
+    public static void drawApple(GraphicsContext gc, Apple apple) {
+        Point position = apple.getPosition();
+        if (position == null) {
+            logger.error("Попытка отрисовать яблоко с null позицией!");
+            return;
+        }
+
+        gc.setFill(Color.RED);
+        gc.fillRect(position.getX(), position.getY(), apple.getSize(), apple.getSize());
+        logger.trace("Яблоко отрисовано в {}", position);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.snakegame2;
+
+import java.util.function.Consumer;
+
+/**
+ * Статистика игры, собираемая подписчиком шины событий.
+ * Обновляется в потоке подписчика, читается из потока интерфейса.
+ */
+public class GameStats implements Consumer<GameEvent> {
+    private volatile int applesEaten;
+    private volatile int reflections;
+    private volatile int teleports;
+    private volatile int maxLength = 1;
+
+    @Override
+    public void accept(GameEvent event) {
+        switch (event.getType()) {
+            case APPLE_EATEN -> applesEaten++;
+            case BOUNDARY_REFLECTED -> reflections++;
+            case TELEPORTED -> teleports++;
+            case SNAKE_GROWN -> maxLength = Math.max(maxLength, event.getValue());
+            default -> {
+            }
+        }
+    }
+
+    public int getApplesEaten() { return applesEaten; }
+
+    public int getReflections() { return reflections; }
+
+    public int getTeleports() { return teleports; }
+
+    public int getMaxLength() { return maxLength; }
+}
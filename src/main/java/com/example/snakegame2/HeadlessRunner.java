@@ -0,0 +1,52 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Консольный прогон игрового ядра без графического интерфейса.
+ * Запускает несколько игр под управлением автопилота на заданное число тактов
+ * и выводит сводку. Используется для сборки native-image и замеров запуска.
+ *
+ * <pre>
+ * HeadlessRunner [количество_игр] [количество_тактов]
+ * </pre>
+ */
+public class HeadlessRunner {
+    private static final Logger logger = LogManager.getLogger(HeadlessRunner.class);
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+
+    public static void main(String[] args) {
+        int gameCount = (args.length > 0) ? Integer.parseInt(args[0]) : 1;
+        int ticks = (args.length > 1) ? Integer.parseInt(args[1]) : 100;
+
+        long started = System.nanoTime();
+        logger.info("Консольный прогон: {} игр, {} тактов", gameCount, ticks);
+
+        Board board = Board.create(WIDTH, HEIGHT, Board.Mode.REFLECT, Game.CELL_SIZE);
+        Game[] games = new Game[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            games[i] = new Game(board);
+        }
+
+        int finished = 0;
+        int maxLength = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < gameCount; i++) {
+                if (games[i].isGameOver()) {
+                    games[i] = new Game(board);
+                }
+                Autopilot.steer(games[i]);
+                if (games[i].tick()) {
+                    finished++;
+                }
+                maxLength = Math.max(maxLength, games[i].getSnake().getLength());
+            }
+        }
+
+        System.out.printf("Игр: %d, тактов: %d, завершено игр: %d, макс. длина: %d, время: %d мс%n",
+                gameCount, ticks, finished, maxLength, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Консольная утилита для анализа накопленных логов игры.
+ * Строит компактный индекс по файлам из каталога {@code logs/} и отвечает
+ * на агрегирующие запросы по нему без повторного чтения логов.
+ *
+ * <pre>
+ * LogAnalytics index [каталог_логов] [файл_индекса]
+ * LogAnalytics query summary|sessions|apple-spawn|count [опции]
+ *
+ * Опции запроса:
+ *   --index файл         файл индекса (по умолчанию logs/logs.idx)
+ *   --from время         начало интервала: yyyy-MM-dd или yyyy-MM-dd HH:mm:ss.SSS
+ *   --to время           конец интервала (не включается)
+ *   --level уровень      TRACE, DEBUG, INFO, WARN, ERROR
+ *   --logger имя         короткое имя логгера, например Snake
+ *   --type тип           тип события, например SELF_COLLISION
+ *   --source game|errors|all  файл-источник записей (по умолчанию game: ошибки дублируются в errors)
+ * </pre>
+ */
+public class LogAnalytics {
+    private static final Logger logger = LogManager.getLogger(LogAnalytics.class);
+
+    private static final String DEFAULT_LOG_DIR = "logs";
+    private static final String DEFAULT_INDEX = "logs/logs.idx";
+
+    /**
+     * Строит индекс по всем файлам {@code *.log} в каталоге.
+     * Файлы разбираются параллельно, каждый в свой накопитель.
+     *
+     * @param logDir каталог с логами
+     * @return построенный индекс
+     * @throws IOException при ошибке чтения каталога
+     */
+    public static LogIndex buildIndex(Path logDir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(logDir)) {
+            files = stream
+                    .filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        logger.info("Найдено файлов логов: {}", files.size());
+
+        return files.parallelStream()
+                .map(LogParser::parseFile)
+                .reduce(LogIndex.Builder::addAll)
+                .orElseGet(LogIndex.Builder::new)
+                .build();
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            printUsage();
+            return;
+        }
+
+        try {
+            switch (args[0]) {
+                case "index" -> index(args);
+                case "query" -> query(args);
+                default -> printUsage();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Ошибка анализа логов: {}", e.getMessage());
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void index(String[] args) throws IOException {
+        Path logDir = Paths.get(args.length > 1 ? args[1] : DEFAULT_LOG_DIR);
+        Path indexFile = Paths.get(args.length > 2 ? args[2] : DEFAULT_INDEX);
+
+        long started = System.nanoTime();
+        LogIndex index = buildIndex(logDir);
+        index.save(indexFile);
+        System.out.printf("Проиндексировано записей: %d за %d мс -> %s%n",
+                index.size(), (System.nanoTime() - started) / 1_000_000, indexFile);
+    }
+
+    private static void query(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Не указан запрос");
+        }
+
+        Path indexFile = Paths.get(DEFAULT_INDEX);
+        String levelName = null, loggerName = null, typeName = null, sourceName = null;
+        String from = null, to = null;
+        for (int i = 2; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Нет значения для опции " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--index" -> indexFile = Paths.get(value);
+                case "--from" -> from = value;
+                case "--to" -> to = value;
+                case "--level" -> levelName = value;
+                case "--logger" -> loggerName = value;
+                case "--type" -> typeName = value;
+                case "--source" -> sourceName = value;
+                default -> throw new IllegalArgumentException("Неизвестная опция: " + args[i - 1]);
+            }
+        }
+
+        long started = System.nanoTime();
+        LogIndex index = LogIndex.load(indexFile);
+
+        LogIndex.Filter filter = new LogIndex.Filter();
+        if (from != null) {
+            filter.from = parseTime(from);
+        }
+        if (to != null) {
+            filter.to = parseTime(to);
+        }
+        if (levelName != null) {
+            filter.level = LogIndex.levelCode(levelName);
+            if (filter.level < 0) {
+                throw new IllegalArgumentException("Неизвестный уровень: " + levelName);
+            }
+        }
+        if (loggerName != null) {
+            filter.logger = index.loggerCode(loggerName);
+            if (filter.logger < 0) {
+                System.out.println("Логгер " + loggerName + " в индексе не встречается");
+                return;
+            }
+        }
+        if (typeName != null) {
+            filter.type = LogEventType.valueOf(typeName.toUpperCase());
+        }
+        if (sourceName != null) {
+            filter.source = switch (sourceName) {
+                case "game" -> LogIndex.SOURCE_GAME;
+                case "errors" -> LogIndex.SOURCE_ERRORS;
+                case "all" -> -1;
+                default -> throw new IllegalArgumentException("Неизвестный источник: " + sourceName);
+            };
+        }
+
+        switch (args[1]) {
+            case "summary" -> printSummary(index, filter);
+            case "sessions" -> printSessions(index, filter);
+            case "apple-spawn" -> printAppleSpawn(index, filter);
+            case "count" -> System.out.println(index.count(filter));
+            default -> throw new IllegalArgumentException("Неизвестный запрос: " + args[1]);
+        }
+        logger.debug("Запрос {} выполнен за {} мкс", args[1], (System.nanoTime() - started) / 1000);
+    }
+
+    private static void printSummary(LogIndex index, LogIndex.Filter filter) {
+        long[] counts = index.countByType(filter);
+        for (LogEventType type : LogEventType.values()) {
+            System.out.printf("%-22s %d%n", type, counts[type.ordinal()]);
+        }
+    }
+
+    private static void printSessions(LogIndex index, LogIndex.Filter filter) {
+        List<LogIndex.Session> sessions = index.sessions(filter);
+        System.out.printf("%-4s %-23s %9s %7s %9s %10s%n",
+                "#", "Начало", "Длит., с", "Яблоки", "Отражения", "Самоудары");
+        for (int i = 0; i < sessions.size(); i++) {
+            LogIndex.Session session = sessions.get(i);
+            System.out.printf("%-4d %-23s %9.1f %7d %9d %10d%n",
+                    i + 1,
+                    LogParser.formatTimestamp(session.getStart()),
+                    (session.getEnd() - session.getStart()) / 1000.0,
+                    session.getCount(LogEventType.APPLE_EATEN),
+                    session.getCount(LogEventType.BOUNDARY_COLLISION),
+                    session.getCount(LogEventType.SELF_COLLISION));
+        }
+        System.out.println("Всего сессий: " + sessions.size());
+    }
+
+    private static void printAppleSpawn(LogIndex index, LogIndex.Filter filter) {
+        long[] stats = index.appleSpawnStats(filter);
+        if (stats[0] == 0) {
+            System.out.println("Генераций яблока не найдено");
+            return;
+        }
+        System.out.printf("Генераций: %d, среднее: %.1f мс, мин: %d мс, макс: %d мс%n",
+                stats[0], (double) stats[1] / stats[0], stats[2], stats[3]);
+    }
+
+    private static long parseTime(String text) {
+        long time = LogParser.parseTimestamp(text.length() == 10 ? text + " 00:00:00.000" : text);
+        if (time == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Некорректное время: " + text);
+        }
+        return time;
+    }
+
+    private static void printUsage() {
+        System.out.println("Использование:");
+        System.out.println("  LogAnalytics index [каталог_логов] [файл_индекса]");
+        System.out.println("  LogAnalytics query summary|sessions|apple-spawn|count [--index файл]"
+                + " [--from время] [--to время] [--level уровень] [--logger имя]"
+                + " [--type тип] [--source game|errors|all]");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.snakegame2;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Тип игрового события, распознаваемого в строках лога.
+ * Каждому типу соответствует одно или несколько начал сообщения, которые пишут классы игры.
+ */
+public enum LogEventType {
+    OTHER(),
+    SESSION_START("ЗАПУСК ИГРЫ"),
+    SESSION_END("ИГРА ЗАВЕРШЕНА", "Закрытие игры"),
+    APPLE_GENERATION("Генерация новой позиции для яблока"),
+    APPLE_SPAWNED("Яблоко сгенерировано"),
+    APPLE_EATEN("Яблоко съедено"),
+    SNAKE_GROWN("Змейка выросла"),
+    BOUNDARY_COLLISION("Столкновение с границей"),
+    INVULNERABILITY_ENDED("Неуязвимость закончилась"),
+    SELF_COLLISION("Змейка столкнулась с собой"),
+    DIRECTION_CHANGED("Направление изменено");
+
+    private static final LogEventType[] VALUES = values();
+
+    private final byte[][] markers;
+
+    LogEventType(String... markers) {
+        this.markers = new byte[markers.length][];
+        for (int i = 0; i < markers.length; i++) {
+            this.markers[i] = markers[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Определяет тип события по байтам сообщения в кодировке UTF-8.
+     * Сравнение идет побайтно, без декодирования строки.
+     *
+     * @param line   буфер со строкой лога
+     * @param offset начало сообщения в буфере
+     * @param length длина сообщения в байтах
+     * @return распознанный тип события или {@link #OTHER}
+     */
+    public static LogEventType match(byte[] line, int offset, int length) {
+        for (LogEventType type : VALUES) {
+            for (byte[] marker : type.markers) {
+                if (startsWith(line, offset, length, marker)) {
+                    return type;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Возвращает тип события по его порядковому номеру в индексе.
+     *
+     * @param ordinal порядковый номер
+     * @return тип события
+     */
+    public static LogEventType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    private static boolean startsWith(byte[] line, int offset, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (line[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
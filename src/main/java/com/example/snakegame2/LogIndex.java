@@ -0,0 +1,667 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компактный колоночный индекс записей лога.
+ * Для каждой записи хранит время, уровень, логгер, тип события и источник.
+ * Записи упорядочены по времени, что позволяет искать диапазоны бинарным поиском.
+ *
+ * <p>Кроме колонок, индекс хранит списки номеров записей (posting lists) для каждого
+ * типа события в каждом источнике, каждого уровня и каждого логгера. Номера в списках
+ * возрастают, поэтому количество записей типа в диапазоне времени считается двумя
+ * бинарными поисками, а фильтры по уровню и логгеру перебирают только свои записи.
+ * Загруженный индекс читает колонки и списки прямо из отображенного в память файла.
+ */
+public class LogIndex {
+    private static final Logger logger = LogManager.getLogger(LogIndex.class);
+
+    private static final int MAGIC = 0x534E4B49; // "SNKI"
+    private static final int VERSION = 3;
+
+    /** Имена уровней логирования в порядке их кодов в индексе. */
+    public static final String[] LEVELS = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL"};
+
+    /** Источник записи: основной лог игры. */
+    public static final byte SOURCE_GAME = 0;
+    /** Источник записи: отдельный лог ошибок. */
+    public static final byte SOURCE_ERRORS = 1;
+
+    private static final int SOURCE_COUNT = 2;
+    private static final int TYPE_COUNT = LogEventType.values().length;
+
+    private final int size;
+    private final LongBuffer timestamps;
+    private final ByteBuffer levels;
+    private final ByteBuffer loggers;
+    private final ByteBuffer types;
+    private final ByteBuffer sources;
+    private final IntBuffer[] postings;
+    private final String[] loggerNames;
+
+    private LogIndex(int size, LongBuffer timestamps, ByteBuffer levels, ByteBuffer loggers, ByteBuffer types,
+                     ByteBuffer sources, IntBuffer[] postings, String[] loggerNames) {
+        this.size = size;
+        this.timestamps = timestamps;
+        this.levels = levels;
+        this.loggers = loggers;
+        this.types = types;
+        this.sources = sources;
+        this.postings = postings;
+        this.loggerNames = loggerNames;
+    }
+
+    /**
+     * Возвращает количество списков номеров записей: тип в источнике, уровень, логгер.
+     */
+    private static int postingCount(int loggerCount) {
+        return SOURCE_COUNT * TYPE_COUNT + LEVELS.length + loggerCount;
+    }
+
+    private static int typeList(int source, int type) {
+        return source * TYPE_COUNT + type;
+    }
+
+    private static int levelList(int level) {
+        return SOURCE_COUNT * TYPE_COUNT + level;
+    }
+
+    private static int loggerList(int logger) {
+        return SOURCE_COUNT * TYPE_COUNT + LEVELS.length + logger;
+    }
+
+    /**
+     * Возвращает код уровня логирования по его имени.
+     *
+     * @param name имя уровня (например, "INFO")
+     * @return код уровня или -1, если уровень неизвестен
+     */
+    public static int levelCode(String name) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает количество записей в индексе.
+     *
+     * @return количество записей
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getTimestamp(int i) { return timestamps.get(i); }
+
+    public int getLevel(int i) { return levels.get(i); }
+
+    public String getLogger(int i) { return loggerNames[loggers.get(i) & 0xFF]; }
+
+    public LogEventType getType(int i) { return LogEventType.of(types.get(i)); }
+
+    public int getSource(int i) { return sources.get(i); }
+
+    /**
+     * Возвращает код логгера по имени.
+     *
+     * @param name короткое имя логгера
+     * @return код логгера или -1, если такой логгер в индексе не встречается
+     */
+    public int loggerCode(String name) {
+        for (int i = 0; i < loggerNames.length; i++) {
+            if (loggerNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, подходит ли запись под фильтр (кроме диапазона времени).
+     *
+     * @param i      номер записи
+     * @param filter фильтр
+     * @return true если запись подходит
+     */
+    public boolean matches(int i, Filter filter) {
+        return (filter.level < 0 || levels.get(i) == filter.level)
+                && (filter.logger < 0 || (loggers.get(i) & 0xFF) == filter.logger)
+                && (filter.type == null || types.get(i) == filter.type.ordinal())
+                && (filter.source < 0 || sources.get(i) == filter.source);
+    }
+
+    /**
+     * Возвращает номер первой записи с временем не раньше указанного.
+     *
+     * @param timestamp время в миллисекундах
+     * @return номер записи (или size(), если таких нет)
+     */
+    public int lowerBound(long timestamp) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (timestamps.get(mid) < timestamp) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Возвращает позицию в списке первого номера записи не меньше указанного.
+     */
+    private static int lowerBound(IntBuffer list, int entry) {
+        int lo = 0;
+        int hi = list.limit();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (list.get(mid) < entry) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Возвращает количество номеров списка в диапазоне записей [start, end).
+     */
+    private static int rangeCount(IntBuffer list, int start, int end) {
+        return lowerBound(list, end) - lowerBound(list, start);
+    }
+
+    /**
+     * Подсчитывает записи, подходящие под фильтр, по типам событий.
+     * Без фильтра по уровню и логгеру ответ собирается из списков типов бинарным поиском;
+     * иначе перебирается самый короткий из подходящих списков.
+     *
+     * @param filter фильтр записей
+     * @return массив счетчиков, индексируемый порядковым номером {@link LogEventType}
+     */
+    public long[] countByType(Filter filter) {
+        long[] counts = new long[TYPE_COUNT];
+        int start = lowerBound(filter.from);
+        int end = lowerBound(filter.to);
+        if (start >= end || filter.logger >= loggerNames.length) {
+            return counts;
+        }
+
+        if (filter.level < 0 && filter.logger < 0) {
+            for (int type = 0; type < TYPE_COUNT; type++) {
+                if (filter.type != null && filter.type.ordinal() != type) {
+                    continue;
+                }
+                for (int source = 0; source < SOURCE_COUNT; source++) {
+                    if (filter.source < 0 || filter.source == source) {
+                        counts[type] += rangeCount(postings[typeList(source, type)], start, end);
+                    }
+                }
+            }
+            return counts;
+        }
+
+        for (IntBuffer list : shortestLists(filter, start, end)) {
+            for (int p = lowerBound(list, start), last = lowerBound(list, end); p < last; p++) {
+                int i = list.get(p);
+                if (matches(i, filter)) {
+                    counts[types.get(i)]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Выбирает списки номеров, которые покрывают все подходящие записи и содержат
+     * меньше всего записей в диапазоне: по типу, по уровню или по логгеру.
+     */
+    private List<IntBuffer> shortestLists(Filter filter, int start, int end) {
+        List<IntBuffer> best = null;
+        long bestSize = Long.MAX_VALUE;
+
+        if (filter.type != null) {
+            List<IntBuffer> lists = new ArrayList<>();
+            long total = 0;
+            for (int source = 0; source < SOURCE_COUNT; source++) {
+                if (filter.source < 0 || filter.source == source) {
+                    IntBuffer list = postings[typeList(source, filter.type.ordinal())];
+                    lists.add(list);
+                    total += rangeCount(list, start, end);
+                }
+            }
+            best = lists;
+            bestSize = total;
+        }
+        if (filter.level >= 0) {
+            IntBuffer list = postings[levelList(filter.level)];
+            if (rangeCount(list, start, end) < bestSize) {
+                best = List.of(list);
+                bestSize = rangeCount(list, start, end);
+            }
+        }
+        if (filter.logger >= 0) {
+            IntBuffer list = postings[loggerList(filter.logger)];
+            if (rangeCount(list, start, end) < bestSize) {
+                best = List.of(list);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Подсчитывает записи, подходящие под фильтр.
+     *
+     * @param filter фильтр записей
+     * @return количество записей
+     */
+    public long count(Filter filter) {
+        long count = 0;
+        for (long typeCount : countByType(filter)) {
+            count += typeCount;
+        }
+        return count;
+    }
+
+    /**
+     * Разбивает основной лог на игровые сессии и считает события в каждой.
+     * Сессия начинается с записи {@link LogEventType#SESSION_START} и заканчивается первой
+     * записью {@link LogEventType#SESSION_END}; если ее нет (игра аварийно завершилась),
+     * то последним распознанным событием до следующего запуска. Нераспознанные записи
+     * (например, рамка из знаков "=" перед следующим запуском) конец сессии не сдвигают.
+     * Записи до первого запуска игры не учитываются.
+     * Границы сессий берутся из списков запусков и завершений, счетчики — бинарным поиском по спискам типов.
+     *
+     * @param filter фильтр записей (учитывается только диапазон времени)
+     * @return список сессий в порядке времени
+     */
+    public List<Session> sessions(Filter filter) {
+        List<Session> result = new ArrayList<>();
+        int start = lowerBound(filter.from);
+        int end = lowerBound(filter.to);
+        IntBuffer starts = postings[typeList(SOURCE_GAME, LogEventType.SESSION_START.ordinal())];
+        IntBuffer ends = postings[typeList(SOURCE_GAME, LogEventType.SESSION_END.ordinal())];
+
+        for (int p = lowerBound(starts, start), last = lowerBound(starts, end); p < last; p++) {
+            int sessionStart = starts.get(p);
+            int nextStart = (p + 1 < last) ? starts.get(p + 1) : end;
+            int lastEntry = sessionEnd(ends, sessionStart, nextStart);
+
+            Session session = new Session(timestamps.get(sessionStart));
+            session.end = timestamps.get(lastEntry);
+            for (int type = 0; type < TYPE_COUNT; type++) {
+                session.counts[type] = rangeCount(postings[typeList(SOURCE_GAME, type)], sessionStart, lastEntry + 1);
+            }
+            result.add(session);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает номер последней записи сессии: первое завершение игры до следующего запуска,
+     * а без него — последнее распознанное событие основного лога.
+     */
+    private int sessionEnd(IntBuffer ends, int sessionStart, int nextStart) {
+        int p = lowerBound(ends, sessionStart);
+        if (p < ends.limit() && ends.get(p) < nextStart) {
+            return ends.get(p);
+        }
+
+        int lastEntry = sessionStart;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            if (type == LogEventType.OTHER.ordinal()) {
+                continue;
+            }
+            IntBuffer list = postings[typeList(SOURCE_GAME, type)];
+            int to = lowerBound(list, nextStart);
+            if (to > 0 && list.get(to - 1) > lastEntry) {
+                lastEntry = list.get(to - 1);
+            }
+        }
+        return lastEntry;
+    }
+
+    /**
+     * Считает статистику времени генерации яблока: от начала поиска позиции
+     * до сообщения о сгенерированном яблоке. Перебираются только записи этих двух типов.
+     *
+     * @param filter фильтр записей (учитывается только диапазон времени)
+     * @return массив {количество, сумма, минимум, максимум} в миллисекундах
+     */
+    public long[] appleSpawnStats(Filter filter) {
+        long count = 0, total = 0, min = Long.MAX_VALUE, max = 0;
+        int start = lowerBound(filter.from);
+        int end = lowerBound(filter.to);
+        IntBuffer generations = postings[typeList(SOURCE_GAME, LogEventType.APPLE_GENERATION.ordinal())];
+        IntBuffer spawns = postings[typeList(SOURCE_GAME, LogEventType.APPLE_SPAWNED.ordinal())];
+
+        int g = lowerBound(generations, start);
+        int lastGeneration = lowerBound(generations, end);
+        for (int s = lowerBound(spawns, start), lastSpawn = lowerBound(spawns, end); s < lastSpawn; s++) {
+            int spawn = spawns.get(s);
+            long started = -1;
+            while (g < lastGeneration && generations.get(g) < spawn) {
+                started = timestamps.get(generations.get(g));
+                g++;
+            }
+            if (started >= 0) {
+                long elapsed = timestamps.get(spawn) - started;
+                count++;
+                total += elapsed;
+                min = Math.min(min, elapsed);
+                max = Math.max(max, elapsed);
+            }
+        }
+        return new long[]{count, total, count > 0 ? min : 0, max};
+    }
+
+    /**
+     * Сохраняет индекс в файл.
+     *
+     * @param file путь к файлу индекса
+     * @throws IOException при ошибке записи
+     */
+    public void save(Path file) throws IOException {
+        byte[][] names = new byte[loggerNames.length][];
+        int headerSize = 16 + postings.length * Integer.BYTES;
+        for (int i = 0; i < loggerNames.length; i++) {
+            names[i] = loggerNames[i].getBytes(StandardCharsets.UTF_8);
+            headerSize += 2 + names[i].length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(names.length);
+        for (byte[] name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+        for (IntBuffer list : postings) {
+            header.putInt(list.limit());
+        }
+        header.flip();
+
+        ByteBuffer timestampBytes = ByteBuffer.allocate(size * Long.BYTES);
+        timestampBytes.asLongBuffer().put(timestamps.duplicate().clear());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header);
+            writeFully(channel, timestampBytes);
+            writeFully(channel, levels.duplicate().clear());
+            writeFully(channel, loggers.duplicate().clear());
+            writeFully(channel, types.duplicate().clear());
+            writeFully(channel, sources.duplicate().clear());
+            for (IntBuffer list : postings) {
+                ByteBuffer bytes = ByteBuffer.allocate(list.limit() * Integer.BYTES);
+                bytes.asIntBuffer().put(list.duplicate().clear());
+                writeFully(channel, bytes);
+            }
+        }
+        logger.info("Индекс сохранен в {}: {} записей", file, size);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Загружает индекс из файла, отображая его в память.
+     * Колонки и списки номеров не копируются: индекс читает их из отображения.
+     *
+     * @param file путь к файлу индекса
+     * @return загруженный индекс
+     * @throws IOException при ошибке чтения или неверном формате файла
+     */
+    public static LogIndex load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                if (buffer.remaining() < 16 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                    throw new IOException("Неверный формат файла индекса: " + file);
+                }
+                int n = buffer.getInt();
+                String[] names = new String[buffer.getInt()];
+                for (int i = 0; i < names.length; i++) {
+                    byte[] name = new byte[buffer.getShort()];
+                    buffer.get(name);
+                    names[i] = new String(name, StandardCharsets.UTF_8);
+                }
+                int[] lengths = new int[postingCount(names.length)];
+                for (int i = 0; i < lengths.length; i++) {
+                    lengths[i] = buffer.getInt();
+                }
+
+                int position = buffer.position();
+                LongBuffer timestamps = buffer.slice(position, n * Long.BYTES).asLongBuffer();
+                position += n * Long.BYTES;
+                ByteBuffer[] columns = new ByteBuffer[4];
+                for (int c = 0; c < columns.length; c++) {
+                    columns[c] = buffer.slice(position, n);
+                    position += n;
+                }
+                IntBuffer[] postings = new IntBuffer[lengths.length];
+                for (int i = 0; i < postings.length; i++) {
+                    postings[i] = buffer.slice(position, lengths[i] * Integer.BYTES).asIntBuffer();
+                    position += lengths[i] * Integer.BYTES;
+                }
+
+                logger.debug("Индекс отображен из {}: {} записей", file, n);
+                return new LogIndex(n, timestamps, columns[0], columns[1], columns[2], columns[3],
+                        postings, names);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Файл индекса поврежден: " + file, e);
+            }
+        }
+    }
+
+    /**
+     * Фильтр записей индекса. Значение -1 (или null) означает "любое".
+     * По умолчанию учитывается только основной лог: записи уровня ERROR
+     * дублируются в лог ошибок, и без этого каждая ошибка считалась бы дважды.
+     */
+    public static class Filter {
+        public long from = Long.MIN_VALUE;
+        public long to = Long.MAX_VALUE;
+        public int level = -1;
+        public int logger = -1;
+        public int source = SOURCE_GAME;
+        public LogEventType type;
+    }
+
+    /**
+     * Игровая сессия: интервал от запуска игры до последней записи перед следующим запуском.
+     */
+    public static class Session {
+        private final long start;
+        private long end;
+        private final long[] counts = new long[LogEventType.values().length];
+
+        private Session(long start) {
+            this.start = start;
+            this.end = start;
+        }
+
+        public long getStart() { return start; }
+
+        public long getEnd() { return end; }
+
+        public long getCount(LogEventType type) { return counts[type.ordinal()]; }
+    }
+
+    /**
+     * Накопитель записей для построения индекса.
+     * Каждый файл разбирается в свой накопитель, затем накопители объединяются.
+     */
+    public static class Builder {
+        private long[] timestamps = new long[1024];
+        private byte[] levels = new byte[1024];
+        private byte[] loggers = new byte[1024];
+        private byte[] types = new byte[1024];
+        private byte[] sources = new byte[1024];
+        private int size = 0;
+        private final Map<String, Integer> loggerCodes = new HashMap<>();
+        private final List<String> loggerNames = new ArrayList<>();
+
+        /**
+         * Добавляет запись в накопитель.
+         *
+         * @param timestamp  время записи в миллисекундах
+         * @param level      код уровня логирования
+         * @param loggerName короткое имя логгера
+         * @param type       тип события
+         * @param source     источник записи
+         */
+        public void add(long timestamp, int level, String loggerName, LogEventType type, byte source) {
+            add(timestamp, (byte) level, (byte) loggerCode(loggerName), (byte) type.ordinal(), source);
+        }
+
+        /**
+         * Добавляет все записи другого накопителя, перекодируя имена логгеров.
+         *
+         * @param other накопитель для объединения
+         * @return этот накопитель
+         */
+        public Builder addAll(Builder other) {
+            byte[] remap = new byte[other.loggerNames.size()];
+            for (int i = 0; i < remap.length; i++) {
+                remap[i] = (byte) loggerCode(other.loggerNames.get(i));
+            }
+            for (int i = 0; i < other.size; i++) {
+                add(other.timestamps[i], other.levels[i], remap[other.loggers[i] & 0xFF],
+                        other.types[i], other.sources[i]);
+            }
+            return this;
+        }
+
+        /**
+         * Возвращает количество накопленных записей.
+         *
+         * @return количество записей
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Строит индекс, упорядочивая записи по времени, и списки номеров записей.
+         * Записи с одинаковым временем сохраняют исходный порядок.
+         * Для сортировки время относительно самой ранней записи упаковывается
+         * вместе с номером записи в один ключ long.
+         *
+         * @return готовый индекс
+         */
+        public LogIndex build() {
+            int positionBits = 64 - Long.numberOfLeadingZeros(Math.max(1, size - 1));
+            long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                min = Math.min(min, timestamps[i]);
+                max = Math.max(max, timestamps[i]);
+            }
+            if (size > 0 && ((max - min) >>> (63 - positionBits)) != 0) {
+                throw new IllegalStateException("Диапазон времени логов слишком велик для индекса: "
+                        + (max - min) + " мс");
+            }
+
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((timestamps[i] - min) << positionBits) | i;
+            }
+            Arrays.sort(keys);
+            long positionMask = (1L << positionBits) - 1;
+
+            long[] sortedTimestamps = new long[size];
+            byte[] sortedLevels = new byte[size];
+            byte[] sortedLoggers = new byte[size];
+            byte[] sortedTypes = new byte[size];
+            byte[] sortedSources = new byte[size];
+            int[] lengths = new int[postingCount(loggerNames.size())];
+            for (int i = 0; i < size; i++) {
+                int j = (int) (keys[i] & positionMask);
+                sortedTimestamps[i] = timestamps[j];
+                sortedLevels[i] = levels[j];
+                sortedLoggers[i] = loggers[j];
+                sortedTypes[i] = types[j];
+                sortedSources[i] = sources[j];
+                lengths[typeList(sources[j], types[j])]++;
+                lengths[levelList(levels[j])]++;
+                lengths[loggerList(loggers[j] & 0xFF)]++;
+            }
+
+            int[][] lists = new int[lengths.length][];
+            for (int k = 0; k < lists.length; k++) {
+                lists[k] = new int[lengths[k]];
+            }
+            int[] filled = new int[lengths.length];
+            for (int i = 0; i < size; i++) {
+                int typeKey = typeList(sortedSources[i], sortedTypes[i]);
+                int levelKey = levelList(sortedLevels[i]);
+                int loggerKey = loggerList(sortedLoggers[i] & 0xFF);
+                lists[typeKey][filled[typeKey]++] = i;
+                lists[levelKey][filled[levelKey]++] = i;
+                lists[loggerKey][filled[loggerKey]++] = i;
+            }
+
+            IntBuffer[] postings = new IntBuffer[lists.length];
+            for (int k = 0; k < lists.length; k++) {
+                postings[k] = IntBuffer.wrap(lists[k]);
+            }
+            return new LogIndex(size, LongBuffer.wrap(sortedTimestamps), ByteBuffer.wrap(sortedLevels),
+                    ByteBuffer.wrap(sortedLoggers), ByteBuffer.wrap(sortedTypes), ByteBuffer.wrap(sortedSources),
+                    postings, loggerNames.toArray(new String[0]));
+        }
+
+        private int loggerCode(String name) {
+            Integer code = loggerCodes.get(name);
+            if (code == null) {
+                if (loggerNames.size() > 0xFF) {
+                    throw new IllegalStateException("Слишком много разных логгеров в логах");
+                }
+                code = loggerNames.size();
+                loggerCodes.put(name, code);
+                loggerNames.add(name);
+            }
+            return code;
+        }
+
+        private void add(long timestamp, byte level, byte loggerCode, byte type, byte source) {
+            if (size == timestamps.length) {
+                int capacity = size * 2;
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                levels = Arrays.copyOf(levels, capacity);
+                loggers = Arrays.copyOf(loggers, capacity);
+                types = Arrays.copyOf(types, capacity);
+                sources = Arrays.copyOf(sources, capacity);
+            }
+            timestamps[size] = timestamp;
+            levels[size] = level;
+            loggers[size] = loggerCode;
+            types[size] = type;
+            sources[size] = source;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Разбор файлов лога игры.
+ * Файл читается через отображение в память, строки разбираются побайтно.
+ * Поддерживаются два формата строк:
+ * <ul>
+ *     <li>{@code log-pattern} из log4j2.xml: {@code 2025-12-10 18:06:59.325 [поток] INFO  Логгер - сообщение}</li>
+ *     <li>старый формат: {@code [2025-12-04 18:42:07.843] [INFO] сообщение}</li>
+ * </ul>
+ * Строки без метки времени (например, стек вызовов) пропускаются.
+ */
+public class LogParser {
+    private static final Logger logger = LogManager.getLogger(LogParser.class);
+
+    /** Имя логгера для строк старого формата, где оно не записывалось. */
+    public static final String UNKNOWN_LOGGER = "-";
+
+    private static final int TIMESTAMP_LENGTH = "yyyy-MM-dd HH:mm:ss.SSS".length();
+
+    private LogParser() {
+    }
+
+    /**
+     * Разбирает файл лога в отдельный накопитель записей.
+     * Источник записей определяется по имени файла ({@code errors*} — лог ошибок).
+     *
+     * @param file путь к файлу лога
+     * @return накопитель с записями файла
+     */
+    public static LogIndex.Builder parseFile(Path file) {
+        byte source = file.getFileName().toString().startsWith("errors")
+                ? LogIndex.SOURCE_ERRORS : LogIndex.SOURCE_GAME;
+        LogIndex.Builder builder = new LogIndex.Builder();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                return builder;
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Файл лога слишком большой: " + file);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            byte[] line = new byte[512];
+            int length = 0;
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == '\n') {
+                    parseLine(line, length, source, builder);
+                    length = 0;
+                } else {
+                    if (length == line.length) {
+                        line = Arrays.copyOf(line, length * 2);
+                    }
+                    line[length++] = b;
+                }
+            }
+            parseLine(line, length, source, builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        logger.debug("Файл {} разобран: {} записей", file, builder.size());
+        return builder;
+    }
+
+    /**
+     * Разбирает одну строку лога и добавляет запись в накопитель.
+     *
+     * @param line    буфер со строкой (без перевода строки)
+     * @param length  длина строки в байтах
+     * @param source  источник записи
+     * @param builder накопитель записей
+     * @return true если строка распознана как запись лога
+     */
+    static boolean parseLine(byte[] line, int length, byte source, LogIndex.Builder builder) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length < TIMESTAMP_LENGTH + 4) {
+            return false;
+        }
+
+        if (line[0] == '[') {
+            return parseLegacyLine(line, length, source, builder);
+        }
+
+        long timestamp = parseTimestamp(line, 0);
+        if (timestamp == Long.MIN_VALUE || line[TIMESTAMP_LENGTH + 1] != '[') {
+            return false;
+        }
+
+        int threadEnd = indexOf(line, TIMESTAMP_LENGTH + 2, length, (byte) ']');
+        if (threadEnd < 0) {
+            return false;
+        }
+        int levelStart = skipSpaces(line, threadEnd + 1, length);
+        int levelEnd = indexOf(line, levelStart, length, (byte) ' ');
+        if (levelEnd < 0) {
+            return false;
+        }
+        int level = levelCode(line, levelStart, levelEnd);
+        int loggerStart = skipSpaces(line, levelEnd, length);
+        int loggerEnd = indexOf(line, loggerStart, length, (byte) ' ');
+        if (level < 0 || loggerEnd < 0 || loggerEnd + 3 > length || line[loggerEnd + 1] != '-') {
+            return false;
+        }
+
+        String loggerName = new String(line, loggerStart, loggerEnd - loggerStart, StandardCharsets.UTF_8);
+        int messageStart = loggerEnd + 3;
+        builder.add(timestamp, level, loggerName,
+                LogEventType.match(line, messageStart, length - messageStart), source);
+        return true;
+    }
+
+    private static boolean parseLegacyLine(byte[] line, int length, byte source, LogIndex.Builder builder) {
+        long timestamp = parseTimestamp(line, 1);
+        if (timestamp == Long.MIN_VALUE || line[TIMESTAMP_LENGTH + 1] != ']'
+                || line[TIMESTAMP_LENGTH + 3] != '[') {
+            return false;
+        }
+
+        int levelStart = TIMESTAMP_LENGTH + 4;
+        int levelEnd = indexOf(line, levelStart, length, (byte) ']');
+        if (levelEnd < 0) {
+            return false;
+        }
+        int level = levelCode(line, levelStart, levelEnd);
+        if (level < 0) {
+            return false;
+        }
+
+        int messageStart = Math.min(levelEnd + 2, length);
+        builder.add(timestamp, level, UNKNOWN_LOGGER,
+                LogEventType.match(line, messageStart, length - messageStart), source);
+        return true;
+    }
+
+    /**
+     * Разбирает метку времени вида {@code yyyy-MM-dd HH:mm:ss.SSS}.
+     * Время хранится как локальное, без учета часового пояса.
+     *
+     * @param line   буфер со строкой
+     * @param offset начало метки времени
+     * @return время в миллисекундах или {@link Long#MIN_VALUE}, если метка некорректна
+     */
+    static long parseTimestamp(byte[] line, int offset) {
+        if (line[offset + 4] != '-' || line[offset + 7] != '-' || line[offset + 10] != ' '
+                || line[offset + 13] != ':' || line[offset + 16] != ':' || line[offset + 19] != '.') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(line, offset, 4);
+        int month = digits(line, offset + 5, 2);
+        int day = digits(line, offset + 8, 2);
+        int hour = digits(line, offset + 11, 2);
+        int minute = digits(line, offset + 14, 2);
+        int second = digits(line, offset + 17, 2);
+        int millis = digits(line, offset + 20, 3);
+        if ((year | month | day | hour | minute | second | millis) < 0) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second)
+                    .toEpochSecond(ZoneOffset.UTC) * 1000 + millis;
+        } catch (DateTimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Разбирает метку времени из строки (используется для аргументов командной строки).
+     *
+     * @param text метка времени вида {@code yyyy-MM-dd HH:mm:ss.SSS}
+     * @return время в миллисекундах или {@link Long#MIN_VALUE}, если метка некорректна
+     */
+    public static long parseTimestamp(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return bytes.length == TIMESTAMP_LENGTH ? parseTimestamp(bytes, 0) : Long.MIN_VALUE;
+    }
+
+    /**
+     * Форматирует время из индекса обратно в вид {@code yyyy-MM-dd HH:mm:ss.SSS}.
+     *
+     * @param timestamp время в миллисекундах
+     * @return строка с меткой времени
+     */
+    public static String formatTimestamp(long timestamp) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(Math.floorDiv(timestamp, 1000L),
+                (int) Math.floorMod(timestamp, 1000L) * 1_000_000, ZoneOffset.UTC);
+        return String.format("%tF %<tT.%03d", time, time.getNano() / 1_000_000);
+    }
+
+    private static int digits(byte[] line, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int levelCode(byte[] line, int start, int end) {
+        return LogIndex.levelCode(new String(line, start, end - start, StandardCharsets.US_ASCII));
+    }
+
+    private static int indexOf(byte[] line, int from, int length, byte value) {
+        for (int i = from; i < length; i++) {
+            if (line[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(byte[] line, int from, int length) {
+        int i = from;
+        while (i < length && line[i] == ' ') {
+            i++;
+        }
+        return i;
+    }
+}
@@ -1,28 +1,36 @@
 package com.example.snakegame2;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Класс, представляющий змейку в игре.
- * Управляет движением, ростом и отображением змейки.
+ * Управляет движением и ростом змейки.
  * Реализует механизм отражения от границ игрового поля.
+ * Следующая клетка на каждом ходу берется из таблицы переходов {@link Board}.
  */
 public class Snake {
     private static final Logger logger = LogManager.getLogger(Snake.class);
 
     private final LinkedList<Point> body;
     private int directionX, directionY;
+    private int direction = Board.RIGHT;
     private final int size = 20;
     private boolean invulnerable = false;
     private int invulnerabilityFrames = 0;
 
+    // Положение головы в таблице переходов поля, по которому змейка двигалась последним
+    private Board currentBoard;
+    private Board defaultBoard;
+    private int headCell;
+    private Point lastTarget;
+    private int lastTransition;
+
     /**
      * Создает новую змейку в указанной позиции.
      *
@@ -38,28 +46,49 @@ public class Snake {
     }
 
     /**
-     * Перемещает змейку на один шаг.
-     * Проверяет столкновения с границами и с собой.
+     * Перемещает змейку на один шаг по полю с отражением от границ.
+     * Таблица переходов для поля указанного размера создается один раз и переиспользуется.
      *
      * @param width  ширина игрового поля
      * @param height высота игрового поля
      * @return true если игра окончена (столкновение с собой), false в противном случае
      */
     public boolean move(int width, int height) {
+        if (defaultBoard == null || defaultBoard.getWidth() != width || defaultBoard.getHeight() != height) {
+            defaultBoard = Board.create(width, height, Board.Mode.REFLECT, size);
+        }
+        return move(defaultBoard);
+    }
+
+    /**
+     * Перемещает змейку на один шаг по полю.
+     * Следующая клетка, новое направление и тип перехода (отражение, портал)
+     * берутся из заранее вычисленной таблицы поля.
+     * Проверяет столкновение с собой.
+     *
+     * @param board игровое поле
+     * @return true если игра окончена (столкновение с собой), false в противном случае
+     */
+    public boolean move(Board board) {
         if (body.isEmpty()) {
             logger.error("Тело змейки пустое!");
             return false;
         }
 
-        Point head = body.getFirst();
-        Point newHead = new Point(
-                head.getX() + directionX * size,
-                head.getY() + directionY * size
-        );
+        if (board != currentBoard) {
+            headCell = board.cellAt(body.getFirst());
+            currentBoard = board;
+        }
+
+        int entry = Board.entry(headCell, direction);
+        int nextCell = board.nextCell(entry);
+        Point newHead = board.point(nextCell);
+        lastTarget = newHead;
 
-        if (isCollidingWithBoundary(newHead, width, height)) {
-            logger.info("Столкновение с границей в {}. Отражение...", newHead);
-            newHead = reflectOffBoundary(head, width, height);
+        int transition = board.transition(entry);
+        lastTransition = transition;
+        if (transition != 0) {
+            applyTransition(transition, board.nextDirection(entry), newHead);
         }
 
         if (!invulnerable && selfCollision(newHead)) {
@@ -69,6 +98,7 @@ public class Snake {
 
         body.addFirst(newHead);
         body.removeLast();
+        headCell = nextCell;
 
         if (invulnerabilityFrames > 0) {
             invulnerabilityFrames--;
@@ -101,59 +131,48 @@ public class Snake {
     }
 
     /**
-     * Проверяет, выходит ли точка за границы игрового поля.
+     * Применяет особый переход из таблицы поля: отражение от границы или стены
+     * (смена направления и неуязвимость) и телепорт через портал.
      *
-     * @param point  проверяемая точка
-     * @param width  ширина поля
-     * @param height высота поля
-     * @return true если точка за границами, false в противном случае
+     * @param transition    тип перехода ({@link Board#REFLECTED}, {@link Board#TELEPORTED})
+     * @param nextDirection направление после перехода
+     * @param newHead       новая позиция головы
      */
-    private boolean isCollidingWithBoundary(Point point, int width, int height) {
-        return point.getX() < 0 || point.getX() >= width ||
-                point.getY() < 0 || point.getY() >= height;
-    }
+    private void applyTransition(int transition, int nextDirection, Point newHead) {
+        if ((transition & Board.REFLECTED) != 0) {
+            logger.info("Столкновение с границей в {}. Отражение...", body.getFirst());
 
-    /**
-     * Отражает змейку от границы игрового поля.
-     * Меняет направление движения и активирует неуязвимость.
-     *
-     * @param head   текущая позиция головы
-     * @param width  ширина поля
-     * @param height высота поля
-     * @return новая позиция головы после отражения
-     */
-    private Point reflectOffBoundary(Point head, int width, int height) {
-        logger.info("Отражаем змейку от границы...");
+            direction = nextDirection;
+            directionX = Board.dx(nextDirection);
+            directionY = Board.dy(nextDirection);
+            logger.debug("Направление после отражения: X={}, Y={}", directionX, directionY);
 
-        if (head.getX() < 0 || head.getX() >= width) {
-            directionX = -directionX;
-            logger.debug("Направление X изменено на {}", directionX);
+            invulnerable = true;
+            invulnerabilityFrames = 3;
+            logger.info("Активирована неуязвимость на 3 кадра");
         }
 
-        if (head.getY() < 0 || head.getY() >= height) {
-            directionY = -directionY;
-            logger.debug("Направление Y изменено на {}", directionY);
+        if ((transition & Board.TELEPORTED) != 0) {
+            logger.info("Змейка прошла через портал в {}", newHead);
         }
-
-        invulnerable = true;
-        invulnerabilityFrames = 3;
-        logger.info("Активирована неуязвимость на 3 кадра");
-
-        return new Point(
-                head.getX() + directionX * size,
-                head.getY() + directionY * size
-        );
     }
 
     /**
      * Устанавливает направление движения змейки.
      * Игнорирует попытки разворота на 180 градусов.
+     * Повторная установка текущего направления ничего не делает и не пишет в лог.
      *
      * @param dx направление по оси X (-1, 0, 1)
      * @param dy направление по оси Y (-1, 0, 1)
      */
     public void setDirection(int dx, int dy) {
-        if (dx != -directionX || dy != -directionY) {
+        int newDirection = Board.direction(dx, dy);
+        if (newDirection < 0) {
+            logger.warn("Некорректное направление: X={}, Y={}", dx, dy);
+        } else if (newDirection == direction) {
+            return;
+        } else if (dx != -directionX || dy != -directionY) {
+            direction = newDirection;
             directionX = dx;
             directionY = dy;
             logger.info("Направление изменено: X={}, Y={}", dx, dy);
@@ -178,25 +197,67 @@ public class Snake {
     }
 
     /**
-     * Отрисовывает змейку на графическом контексте.
+     * Возвращает текущую длину змейки.
      *
-     * @param gc графический контекст для отрисовки
+     * @return количество сегментов змейки
      */
-    public void draw(GraphicsContext gc) {
-        gc.setFill(Color.GREEN);
-        body.forEach(segment -> {
-            gc.fillRect(segment.getX(), segment.getY(), size, size);
-        });
-        logger.trace("Змейка отрисована ({} сегментов)", body.size());
+    public int getLength() {
+        return body.size();
     }
 
     /**
-     * Возвращает текущую длину змейки.
+     * Возвращает позицию головы змейки без копирования тела.
      *
-     * @return количество сегментов змейки
+     * @return позиция головы
      */
-    public int getLength() {
-        return body.size();
+    public Point getHead() {
+        return body.getFirst();
+    }
+
+    /**
+     * Возвращает позицию хвоста змейки без копирования тела.
+     *
+     * @return позиция последнего сегмента
+     */
+    public Point getTail() {
+        return body.getLast();
+    }
+
+    /**
+     * Возвращает клетку, в которую змейка пыталась переместиться на последнем ходу.
+     * При столкновении с собой это клетка столкновения, иначе — текущая голова.
+     *
+     * @return точка последнего хода или null, если змейка еще не двигалась
+     */
+    public Point getLastTarget() {
+        return lastTarget;
+    }
+
+    /**
+     * Возвращает тип перехода на последнем ходу ({@link Board#REFLECTED}, {@link Board#TELEPORTED}).
+     *
+     * @return флаги перехода или 0 для обычного шага
+     */
+    public int getLastTransition() {
+        return lastTransition;
+    }
+
+    public int getDirectionX() { return directionX; }
+
+    public int getDirectionY() { return directionY; }
+
+    public int getInvulnerabilityFrames() { return invulnerabilityFrames; }
+
+    public int getSize() { return size; }
+
+    /**
+     * Возвращает тело змейки без копирования, голова первая.
+     * Список нельзя изменять, и он меняется вместе со змейкой.
+     *
+     * @return неизменяемое представление тела змейки
+     */
+    public List<Point> getSegments() {
+        return Collections.unmodifiableList(body);
     }
 
     /**
@@ -8,9 +8,21 @@ import javafx.stage.Stage;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
 public class SnakeGame extends Application {
     private static final Logger logger = LogManager.getLogger(SnakeGame.class);
 
+    private static final String SPECTATOR_OPTION = "--spectator";
+    private static final String MODE_OPTION = "--mode";
+    private static final String MAP_OPTION = "--map";
+    private static final String SPEED_OPTION = "--speed";
+    private static final int DEFAULT_SPECTATOR_GAMES = 16;
+    private static final double DEFAULT_SPECTATOR_SPEED = 10;
+
     // Статический блок для инициализации JavaFX
     static {
         // Для JavaFX на Mac
@@ -24,9 +36,34 @@ public class SnakeGame extends Application {
         logger.info("ЗАПУСК ИГРЫ 'ЗМЕЙКА'");
         logger.info("=".repeat(50));
 
+        List<String> args = getParameters().getRaw();
+        Board board;
+        try {
+            board = createBoard(args);
+        } catch (Exception e) {
+            logger.error("Ошибка загрузки поля: {}", e.getMessage(), e);
+            Platform.exit();
+            return;
+        }
+
+        int spectatorIndex = args.indexOf(SPECTATOR_OPTION);
+        if (spectatorIndex >= 0) {
+            int gameCount = DEFAULT_SPECTATOR_GAMES;
+            if (spectatorIndex + 1 < args.size()) {
+                try {
+                    gameCount = Integer.parseInt(args.get(spectatorIndex + 1));
+                } catch (NumberFormatException e) {
+                    logger.warn("Некорректное количество игр: {}. Используется {}",
+                            args.get(spectatorIndex + 1), DEFAULT_SPECTATOR_GAMES);
+                }
+            }
+            startSpectator(primaryStage, board, gameCount, parseSpectatorSpeed(args));
+            return;
+        }
+
         try {
-            GamePanel gamePanel = new GamePanel(800, 600);
-            Scene scene = new Scene(gamePanel, 800, 600);
+            GamePanel gamePanel = new GamePanel(board);
+            Scene scene = new Scene(gamePanel, board.getWidth(), board.getHeight());
 
             primaryStage.setTitle("Snake");
             primaryStage.setScene(scene);
@@ -36,33 +73,129 @@ public class SnakeGame extends Application {
             gamePanel.requestFocus();
             logger.info("Окно игры создано");
 
-            AnimationTimer timer = new AnimationTimer() {
-                private long lastUpdate = 0;
+            startTimer(primaryStage, gamePanel::update, gamePanel::render, gamePanel::getTicksPerSecond,
+                    gamePanel::close);
+
+        } catch (Exception e) {
+            logger.error("Ошибка запуска: {}", e.getMessage(), e);
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Создает игровое поле по параметрам запуска:
+     * {@code --mode reflect|wrap} и {@code --map файл_карты}.
+     * Без карты создается пустое поле 800x600. Неизвестный режим заменяется отражением.
+     *
+     * @param args параметры запуска
+     * @return игровое поле
+     * @throws IOException при ошибке чтения карты
+     */
+    private static Board createBoard(List<String> args) throws IOException {
+        Board.Mode mode = Board.Mode.REFLECT;
+        int modeIndex = args.indexOf(MODE_OPTION);
+        if (modeIndex >= 0 && modeIndex + 1 < args.size()) {
+            try {
+                mode = Board.Mode.valueOf(args.get(modeIndex + 1).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Некорректный режим поля: {}. Используется {}", args.get(modeIndex + 1), mode);
+            }
+        }
 
-                @Override
-                public void handle(long now) {
-                    if (now - lastUpdate >= 1_000_000_000 / gamePanel.getSpeed()) {
-                        gamePanel.gameLoop();
-                        lastUpdate = now;
-                    }
+        int mapIndex = args.indexOf(MAP_OPTION);
+        if (mapIndex >= 0 && mapIndex + 1 < args.size()) {
+            return Board.load(Paths.get(args.get(mapIndex + 1)), mode, Game.CELL_SIZE);
+        }
+        return Board.create(800, 600, mode, Game.CELL_SIZE);
+    }
+
+    /**
+     * Читает скорость режима наблюдателя из параметра {@code --speed тактов_в_секунду}.
+     * Скорость может быть дробной и выше частоты кадров (сотни тактов в секунду),
+     * но не больше {@link SpeedModel#MAX_TICKS_PER_SECOND}.
+     *
+     * @param args параметры запуска
+     * @return количество тактов в секунду
+     */
+    private static double parseSpectatorSpeed(List<String> args) {
+        int speedIndex = args.indexOf(SPEED_OPTION);
+        if (speedIndex >= 0 && speedIndex + 1 < args.size()) {
+            try {
+                double speed = Double.parseDouble(args.get(speedIndex + 1));
+                if (SpeedModel.isValid(speed)) {
+                    return speed;
                 }
-            };
+            } catch (NumberFormatException e) {
+                // Сообщение ниже
+            }
+            logger.warn("Некорректная скорость: {}. Используется {}",
+                    args.get(speedIndex + 1), DEFAULT_SPECTATOR_SPEED);
+        }
+        return DEFAULT_SPECTATOR_SPEED;
+    }
 
-            timer.start();
-            logger.info("Игровой цикл запущен");
+    /**
+     * Запускает режим наблюдателя: сетку из нескольких игр в одном окне.
+     *
+     * @param primaryStage главное окно
+     * @param board        поле, общее для всех игр
+     * @param gameCount    количество одновременных игр
+     * @param speed        скорость игр в тактах в секунду
+     */
+    private void startSpectator(Stage primaryStage, Board board, int gameCount, double speed) {
+        logger.info("Режим наблюдателя: {} игр, {} тактов/с", gameCount, speed);
 
-            primaryStage.setOnCloseRequest(event -> {
-                logger.info("Закрытие игры");
-                timer.stop();
-                Platform.exit();
-            });
+        try {
+            SpectatorPanel spectatorPanel = new SpectatorPanel(1280, 960, gameCount, board);
+            Scene scene = new Scene(spectatorPanel, 1280, 960);
+
+            primaryStage.setTitle("Snake - наблюдатель");
+            primaryStage.setScene(scene);
+            primaryStage.setResizable(false);
+            primaryStage.show();
+            logger.info("Окно наблюдателя создано");
+
+            startTimer(primaryStage, spectatorPanel::update, spectatorPanel::render, () -> speed, () -> { });
 
         } catch (Exception e) {
-            logger.error("Ошибка запуска: {}", e.getMessage(), e);
+            logger.error("Ошибка запуска наблюдателя: {}", e.getMessage(), e);
             Platform.exit();
         }
     }
 
+    /**
+     * Запускает игровой цикл на общем такте анимации JavaFX.
+     * На каждом кадре планировщик выполняет все накопившиеся такты,
+     * после чего панель перерисовывается, если ее состояние изменилось.
+     *
+     * @param primaryStage главное окно
+     * @param update       действие, выполняемое на каждом игровом такте
+     * @param render       перерисовка в конце кадра
+     * @param speed        текущая скорость в тактах в секунду
+     * @param onClose      освобождение ресурсов панели при закрытии окна
+     */
+    private void startTimer(Stage primaryStage, Runnable update, Runnable render, DoubleSupplier speed,
+                            Runnable onClose) {
+        TickScheduler scheduler = new TickScheduler();
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                scheduler.advance(now, speed, update);
+                render.run();
+            }
+        };
+
+        timer.start();
+        logger.info("Игровой цикл запущен");
+
+        primaryStage.setOnCloseRequest(event -> {
+            logger.info("Закрытие игры");
+            timer.stop();
+            onClose.run();
+            Platform.exit();
+        });
+    }
+
     public static void main(String[] args) {
         // Запуск JavaFX приложения
         launch(args);
@@ -0,0 +1,235 @@
+package com.example.snakegame2;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.text.Font;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+
+/**
+ * Панель режима наблюдателя.
+ * Показывает сетку из многих одновременно идущих игр на одном холсте.
+ * Все игры обновляются одним общим тактом. Маленькие плитки рисуются
+ * упрощенно: без информационной панели и без масштабирования каждого сегмента —
+ * стены берутся из заранее отрисованного изображения поля, а змейка рисуется
+ * одной ломаной, так что на плитку уходит несколько вызовов отрисовки
+ * независимо от длины змейки.
+ */
+public class SpectatorPanel extends StackPane {
+    private static final Logger logger = LogManager.getLogger(SpectatorPanel.class);
+
+    /** Минимальный масштаб плитки, при котором она рисуется полностью, с информационной панелью. */
+    private static final double DETAIL_MIN_SCALE = 0.4;
+    /** Количество тактов, через которое закончившаяся игра перезапускается. */
+    private static final int RESTART_DELAY_TICKS = 30;
+    private static final int GAP = 2;
+
+    private final Canvas canvas;
+    private final GraphicsContext gc;
+    private final int width, height;
+    private final int gameWidth, gameHeight;
+    private final Board board;
+    private final int columns, rows;
+    private final double scale;
+    private final Game[] games;
+    private final int[] gameOverTicks;
+    // Игры изменились с последней отрисовки
+    private boolean dirty = true;
+
+    // Упрощенная отрисовка: изображение стен и буферы координат ломаной змейки
+    private final Image boardImage;
+    private double[] polylineX = new double[64];
+    private double[] polylineY = new double[64];
+
+    /**
+     * Создает панель наблюдателя с сеткой игр.
+     *
+     * @param width      ширина панели
+     * @param height     высота панели
+     * @param gameCount  количество одновременных игр
+     * @param board      поле, общее для всех игр (режим края и препятствия)
+     */
+    public SpectatorPanel(int width, int height, int gameCount, Board board) {
+        if (gameCount <= 0) {
+            throw new IllegalArgumentException("Количество игр должно быть положительным: " + gameCount);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.board = board;
+        this.gameWidth = board.getWidth();
+        this.gameHeight = board.getHeight();
+        this.columns = (int) Math.ceil(Math.sqrt(gameCount));
+        this.rows = (gameCount + columns - 1) / columns;
+        this.scale = Math.min((double) (width / columns - GAP) / gameWidth,
+                (double) (height / rows - GAP) / gameHeight);
+
+        logger.info("Инициализация SpectatorPanel {}x{}: {} игр, сетка {}x{}, масштаб {}",
+                width, height, gameCount, columns, rows, String.format("%.2f", scale));
+
+        this.games = new Game[gameCount];
+        this.gameOverTicks = new int[gameCount];
+        // Поле неизменяемо, поэтому одна таблица переходов общая для всех игр
+        for (int i = 0; i < gameCount; i++) {
+            games[i] = new Game(board);
+        }
+
+        this.canvas = new Canvas(width, height);
+        this.gc = canvas.getGraphicsContext2D();
+        getChildren().add(canvas);
+
+        this.boardImage = (scale < DETAIL_MIN_SCALE) ? renderBoardImage() : null;
+    }
+
+    /**
+     * Один раз рисует стены и порталы поля в масштабе плитки.
+     *
+     * @return изображение поля с прозрачным фоном
+     */
+    private Image renderBoardImage() {
+        Canvas boardCanvas = new Canvas(Math.ceil(gameWidth * scale), Math.ceil(gameHeight * scale));
+        GraphicsContext boardGc = boardCanvas.getGraphicsContext2D();
+        boardGc.scale(scale, scale);
+        GameRenderer.drawBoard(boardGc, board);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return boardCanvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Выполняет один общий такт для всех игр без перерисовки.
+     * Змейками управляет простой автопилот, ведущий их к яблоку.
+     * Закончившиеся игры через некоторое время перезапускаются.
+     */
+    public void update() {
+        for (int i = 0; i < games.length; i++) {
+            Game game = games[i];
+            if (game.isGameOver()) {
+                if (++gameOverTicks[i] >= RESTART_DELAY_TICKS) {
+                    games[i] = new Game(board);
+                    gameOverTicks[i] = 0;
+                }
+                continue;
+            }
+            Autopilot.steer(game);
+            game.tick();
+        }
+        dirty = true;
+    }
+
+    /**
+     * Перерисовывает сетку игр, если с прошлой отрисовки выполнялись такты.
+     */
+    public void render() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+
+        gc.setFill(Color.DIMGRAY);
+        gc.fillRect(0, 0, width, height);
+
+        boolean detailed = scale >= DETAIL_MIN_SCALE;
+        if (detailed) {
+            gc.setFont(Font.font("Arial", 14));
+        } else {
+            gc.setStroke(Color.GREEN);
+            gc.setLineWidth(Game.CELL_SIZE * scale);
+            gc.setLineCap(StrokeLineCap.SQUARE);
+            gc.setLineJoin(StrokeLineJoin.MITER);
+        }
+
+        double tileWidth = (double) width / columns;
+        double tileHeight = (double) height / rows;
+        for (int i = 0; i < games.length; i++) {
+            Game game = games[i];
+            double x = (i % columns) * tileWidth + GAP / 2.0;
+            double y = (i / columns) * tileHeight + GAP / 2.0;
+
+            if (!detailed) {
+                drawSimplified(game, x, y);
+                continue;
+            }
+
+            gc.save();
+            gc.translate(x, y);
+            gc.scale(scale, scale);
+
+            gc.setFill(game.isGameOver() ? Color.DARKRED : Color.BLACK);
+            gc.fillRect(0, 0, gameWidth, gameHeight);
+            GameRenderer.draw(gc, game);
+
+            gc.restore();
+
+            gc.setFill(Color.WHITE);
+            gc.fillText("Длина: " + game.getSnake().getLength(), x + 6, y + 16);
+        }
+    }
+
+    /**
+     * Рисует плитку упрощенно: фон, готовое изображение стен, змейку ломаной
+     * через центры сегментов и яблоко. Ломаная разрывается там, где змейка
+     * прошла сквозь край поля или через портал.
+     *
+     * @param game игра
+     * @param x    левый край плитки на холсте
+     * @param y    верхний край плитки на холсте
+     */
+    private void drawSimplified(Game game, double x, double y) {
+        double cell = Game.CELL_SIZE * scale;
+        gc.setFill(game.isGameOver() ? Color.DARKRED : Color.BLACK);
+        gc.fillRect(x, y, gameWidth * scale, gameHeight * scale);
+        gc.drawImage(boardImage, x, y);
+
+        List<Point> segments = game.getSnake().getSegments();
+        if (polylineX.length < segments.size()) {
+            polylineX = new double[segments.size() * 2];
+            polylineY = new double[segments.size() * 2];
+        }
+        int count = 0;
+        Point previous = null;
+        for (Point segment : segments) {
+            if (previous != null && Math.abs(segment.getX() - previous.getX())
+                    + Math.abs(segment.getY() - previous.getY()) > Game.CELL_SIZE) {
+                strokeSnake(count, cell);
+                count = 0;
+            }
+            polylineX[count] = x + segment.getX() * scale + cell / 2;
+            polylineY[count] = y + segment.getY() * scale + cell / 2;
+            count++;
+            previous = segment;
+        }
+        strokeSnake(count, cell);
+
+        Point apple = game.getApple().getPosition();
+        gc.setFill(Color.RED);
+        gc.fillRect(x + apple.getX() * scale, y + apple.getY() * scale, cell, cell);
+    }
+
+    private void strokeSnake(int count, double cell) {
+        if (count == 1) {
+            gc.setFill(Color.GREEN);
+            gc.fillRect(polylineX[0] - cell / 2, polylineY[0] - cell / 2, cell, cell);
+        } else if (count > 1) {
+            gc.strokePolyline(polylineX, polylineY, count);
+        }
+    }
+
+    /**
+     * Возвращает количество игр на панели.
+     *
+     * @return количество игр
+     */
+    public int getGameCount() {
+        return games.length;
+    }
+}
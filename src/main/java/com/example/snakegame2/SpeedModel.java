@@ -0,0 +1,62 @@
+package com.example.snakegame2;
+
+/**
+ * Модель скорости игры: количество тактов в секунду как функция состояния игры.
+ * Значение может быть дробным и меняться от такта к такту.
+ */
+public interface SpeedModel {
+
+    /** Наибольшая допустимая постоянная скорость в тактах в секунду. */
+    double MAX_TICKS_PER_SECOND = 1000;
+
+    /**
+     * Возвращает текущую скорость игры.
+     *
+     * @param game игра
+     * @return количество тактов в секунду (больше нуля)
+     */
+    double ticksPerSecond(Game game);
+
+    /**
+     * Возвращает название режима скорости для информационной панели.
+     *
+     * @return название режима
+     */
+    String getName();
+
+    /**
+     * Создает модель с постоянной скоростью.
+     *
+     * @param name           название режима
+     * @param ticksPerSecond количество тактов в секунду
+     * @return модель скорости
+     * @throws IllegalArgumentException если скорость не в диапазоне (0, {@link #MAX_TICKS_PER_SECOND}]
+     */
+    static SpeedModel fixed(String name, double ticksPerSecond) {
+        if (!isValid(ticksPerSecond)) {
+            throw new IllegalArgumentException("Скорость должна быть в диапазоне (0, "
+                    + MAX_TICKS_PER_SECOND + "]: " + ticksPerSecond);
+        }
+        return new SpeedModel() {
+            @Override
+            public double ticksPerSecond(Game game) {
+                return ticksPerSecond;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Проверяет, что скорость конечна, положительна и не больше {@link #MAX_TICKS_PER_SECOND}.
+     *
+     * @param ticksPerSecond количество тактов в секунду
+     * @return true если скорость допустима
+     */
+    static boolean isValid(double ticksPerSecond) {
+        return ticksPerSecond > 0 && ticksPerSecond <= MAX_TICKS_PER_SECOND;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.snakegame2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Кольцевой буфер истории игровых тактов.
+ * Для каждого такта хранит только изменения: новую голову, удаленный хвост,
+ * признак роста, направление, счетчик неуязвимости и позицию яблока.
+ * Все массивы выделяются один раз при создании, запись такта выполняется за O(1)
+ * без создания объектов. По истории можно восстановить тело змейки на любом
+ * из последних тактов, откатывая изменения от текущего состояния.
+ */
+public class TickHistory {
+    private static final byte GREW = 1;
+    private static final byte GAME_OVER = 2;
+
+    private final int capacity;
+    private final int[] headX, headY;
+    private final int[] tailX, tailY;
+    private final int[] appleX, appleY;
+    private final int[] invulnerabilityFrames;
+    private final byte[] directionX, directionY;
+    private final byte[] flags;
+    private int next = 0;
+    private int size = 0;
+    private long totalTicks = 0;
+
+    /**
+     * Создает буфер истории на указанное количество тактов.
+     *
+     * @param capacity максимальное количество хранимых тактов
+     */
+    public TickHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Емкость истории должна быть положительной: " + capacity);
+        }
+        this.capacity = capacity;
+        this.headX = new int[capacity];
+        this.headY = new int[capacity];
+        this.tailX = new int[capacity];
+        this.tailY = new int[capacity];
+        this.appleX = new int[capacity];
+        this.appleY = new int[capacity];
+        this.invulnerabilityFrames = new int[capacity];
+        this.directionX = new byte[capacity];
+        this.directionY = new byte[capacity];
+        this.flags = new byte[capacity];
+    }
+
+    /**
+     * Записывает такт в историю, вытесняя самый старый при заполнении буфера.
+     * Для такта с концом игры голова — клетка столкновения, а тело не менялось.
+     *
+     * @param headX                 X новой головы
+     * @param headY                 Y новой головы
+     * @param tailX                 X удаленного хвоста
+     * @param tailY                 Y удаленного хвоста
+     * @param grew                  змейка выросла на этом такте
+     * @param gameOver              такт закончился концом игры
+     * @param directionX            направление по X после такта
+     * @param directionY            направление по Y после такта
+     * @param invulnerabilityFrames оставшиеся кадры неуязвимости
+     * @param appleX                X яблока после такта
+     * @param appleY                Y яблока после такта
+     */
+    public void record(int headX, int headY, int tailX, int tailY, boolean grew, boolean gameOver,
+                       int directionX, int directionY, int invulnerabilityFrames, int appleX, int appleY) {
+        int i = next;
+        this.headX[i] = headX;
+        this.headY[i] = headY;
+        this.tailX[i] = tailX;
+        this.tailY[i] = tailY;
+        this.flags[i] = (byte) ((grew ? GREW : 0) | (gameOver ? GAME_OVER : 0));
+        this.directionX[i] = (byte) directionX;
+        this.directionY[i] = (byte) directionY;
+        this.invulnerabilityFrames[i] = invulnerabilityFrames;
+        this.appleX[i] = appleX;
+        this.appleY[i] = appleY;
+
+        next = (next + 1 == capacity) ? 0 : next + 1;
+        if (size < capacity) {
+            size++;
+        }
+        totalTicks++;
+    }
+
+    /**
+     * Восстанавливает тело змейки после такта с указанным возрастом.
+     * Возраст 0 — последний записанный такт (текущее состояние).
+     *
+     * @param currentBody текущее тело змейки, голова первая
+     * @param age         возраст такта, от 0 до size() - 1
+     * @return тело змейки после этого такта
+     */
+    public Deque<Point> reconstructBody(List<Point> currentBody, int age) {
+        checkAge(age);
+        Deque<Point> body = new ArrayDeque<>(currentBody);
+        for (int a = 0; a < age; a++) {
+            int i = index(a);
+            if ((flags[i] & GAME_OVER) != 0) {
+                continue;
+            }
+            if ((flags[i] & GREW) != 0) {
+                body.removeLast();
+            }
+            body.removeFirst();
+            body.addLast(new Point(tailX[i], tailY[i]));
+        }
+        return body;
+    }
+
+    public int size() { return size; }
+
+    public int capacity() { return capacity; }
+
+    /**
+     * Возвращает общее количество записанных тактов, включая вытесненные.
+     *
+     * @return количество тактов с начала игры
+     */
+    public long getTotalTicks() { return totalTicks; }
+
+    public int getHeadX(int age) { return headX[index(age)]; }
+
+    public int getHeadY(int age) { return headY[index(age)]; }
+
+    public int getAppleX(int age) { return appleX[index(age)]; }
+
+    public int getAppleY(int age) { return appleY[index(age)]; }
+
+    public int getDirectionX(int age) { return directionX[index(age)]; }
+
+    public int getDirectionY(int age) { return directionY[index(age)]; }
+
+    public int getInvulnerabilityFrames(int age) { return invulnerabilityFrames[index(age)]; }
+
+    public boolean isGrew(int age) { return (flags[index(age)] & GREW) != 0; }
+
+    public boolean isGameOver(int age) { return (flags[index(age)] & GAME_OVER) != 0; }
+
+    private int index(int age) {
+        checkAge(age);
+        int i = next - 1 - age;
+        return (i < 0) ? i + capacity : i;
+    }
+
+    private void checkAge(int age) {
+        if (age < 0 || age >= size) {
+            throw new IndexOutOfBoundsException("Такт " + age + " вне истории размера " + size);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.snakegame2;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Планировщик игровых тактов с фиксированным шагом.
+ * Время между кадрами накапливается, и за кадр выполняется столько тактов,
+ * сколько в него помещается при текущей скорости; дробный остаток переносится
+ * на следующий кадр. Поэтому скорость может быть дробной и выше частоты кадров
+ * (сотни тактов в секунду), а такты не теряются и не удваиваются из-за
+ * неровного шага кадров.
+ *
+ * <p>За один кадр выполняется не больше {@link #MAX_TICKS_PER_FRAME} тактов: если игра
+ * не успевает за заданной скоростью, лишние такты отбрасываются, а не копятся,
+ * чтобы отставание не росло от кадра к кадру.
+ */
+public class TickScheduler {
+    private static final Logger logger = LogManager.getLogger(TickScheduler.class);
+
+    /** Максимальное время, учитываемое за один кадр (защита от лавины тактов после зависания). */
+    public static final long MAX_FRAME_NANOS = 250_000_000L;
+    /** Максимальное количество тактов за один кадр. */
+    public static final int MAX_TICKS_PER_FRAME = 64;
+
+    private long lastFrame = -1;
+    private double accumulatedNanos = 0;
+    private long totalTicks = 0;
+    private long droppedTicks = 0;
+    private boolean behind = false;
+
+    /**
+     * Выполняет такты, накопившиеся с прошлого кадра.
+     * Скорость запрашивается перед каждым тактом, поэтому изменение скорости
+     * внутри кадра учитывается сразу.
+     *
+     * @param now            время текущего кадра в наносекундах
+     * @param ticksPerSecond текущая скорость в тактах в секунду
+     * @param tick           действие одного игрового такта
+     * @return количество выполненных тактов
+     * @throws IllegalArgumentException если скорость не положительна или бесконечна
+     */
+    public int advance(long now, DoubleSupplier ticksPerSecond, Runnable tick) {
+        if (lastFrame < 0) {
+            lastFrame = now;
+            return 0;
+        }
+
+        long elapsed = now - lastFrame;
+        lastFrame = now;
+        if (elapsed > MAX_FRAME_NANOS) {
+            logger.warn("Кадр длился {} мс, учтено только {} мс",
+                    elapsed / 1_000_000, MAX_FRAME_NANOS / 1_000_000);
+            elapsed = MAX_FRAME_NANOS;
+        }
+        accumulatedNanos += elapsed;
+
+        int ticks = 0;
+        double period = period(ticksPerSecond.getAsDouble());
+        while (accumulatedNanos >= period && ticks < MAX_TICKS_PER_FRAME) {
+            accumulatedNanos -= period;
+            tick.run();
+            ticks++;
+            period = period(ticksPerSecond.getAsDouble());
+        }
+
+        if (accumulatedNanos >= period) {
+            // Не успеваем: отбрасываем целые такты, дробный остаток сохраняем
+            long dropped = (long) (accumulatedNanos / period);
+            accumulatedNanos -= dropped * period;
+            droppedTicks += dropped;
+            if (!behind) {
+                logger.warn("Игра не успевает за скоростью: за кадр выполнено {} тактов, отброшено {}",
+                        ticks, dropped);
+            }
+            behind = true;
+        } else {
+            behind = false;
+        }
+
+        totalTicks += ticks;
+        return ticks;
+    }
+
+    private static double period(double ticksPerSecond) {
+        if (!(ticksPerSecond > 0) || Double.isInfinite(ticksPerSecond)) {
+            throw new IllegalArgumentException("Некорректная скорость: " + ticksPerSecond);
+        }
+        return 1_000_000_000.0 / ticksPerSecond;
+    }
+
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Возвращает количество тактов, отброшенных из-за ограничения тактов за кадр.
+     *
+     * @return количество отброшенных тактов
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+}
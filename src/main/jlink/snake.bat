@@ -0,0 +1,21 @@
+@echo off
+rem Запуск игры из образа jlink. Параметры передаются игре (например, --spectator 64).
+rem Архив CDS классов игры привязан к абсолютному пути JAR, поэтому он создается при первом
+rem запуске на месте установки и пересоздается, если образ перенесли в другую папку.
+set DIR=%~dp0
+for %%f in ("%DIR%..\app\snakegame2.jar") do set APP_JAR=%%~ff
+for %%f in ("%DIR%..\lib\app.jsa") do set ARCHIVE=%%~ff
+if "%SNAKE_MAIN_CLASS%"=="" set SNAKE_MAIN_CLASS=com.example.snakegame2.SnakeGame
+
+set CDS=
+if exist "%ARCHIVE%" if exist "%ARCHIVE%.path" (
+    for /f "usebackq delims=" %%p in ("%ARCHIVE%.path") do if /i "%%p"=="%APP_JAR%" set CDS=-XX:SharedArchiveFile="%ARCHIVE%"
+)
+if "%CDS%"=="" (
+    if exist "%ARCHIVE%" del "%ARCHIVE%"
+    >"%ARCHIVE%.path" echo %APP_JAR%
+    set CDS=-XX:ArchiveClassesAtExit="%ARCHIVE%"
+)
+
+"%DIR%java" %CDS% -Xshare:auto -Xlog:cds=off -Xlog:cds+dynamic=off -XX:TieredStopAtLevel=1 ^
+    -cp "%APP_JAR%" %SNAKE_MAIN_CLASS% %*
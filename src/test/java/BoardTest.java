@@ -0,0 +1,78 @@
+package com.example.snakegame2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для тестирования таблицы переходов игрового поля Board.
+ * Проверяет режимы отражения и прохода сквозь край, стены и порталы.
+ */
+public class BoardTest {
+    private static final int CELL = 20;
+
+    /**
+     * Тест отражения от края поля.
+     * Голова разворачивается и уходит на клетку назад, переход помечен как отражение.
+     */
+    @Test
+    void testReflectModeReversesAtEdge() {
+        Board board = Board.create(100, 60, Board.Mode.REFLECT, CELL);
+        int entry = Board.entry(board.cellAt(new Point(80, 20)), Board.RIGHT);
+
+        assertEquals(new Point(60, 20), board.point(board.nextCell(entry)));
+        assertEquals(Board.LEFT, board.nextDirection(entry));
+        assertEquals(Board.REFLECTED, board.transition(entry));
+    }
+
+    /**
+     * Тест прохода сквозь край поля в режиме WRAP.
+     */
+    @Test
+    void testWrapModeWrapsAround() {
+        Board board = Board.create(100, 60, Board.Mode.WRAP, CELL);
+        int entry = Board.entry(board.cellAt(new Point(0, 0)), Board.UP);
+
+        assertEquals(new Point(0, 40), board.point(board.nextCell(entry)));
+        assertEquals(Board.UP, board.nextDirection(entry));
+        assertEquals(0, board.transition(entry));
+    }
+
+    /**
+     * Тест стен и порталов карты.
+     * От стены змейка отражается, через портал попадает в парную клетку.
+     */
+    @Test
+    void testWallsAndPortals() {
+        Board board = Board.parse(List.of(
+                "..#..",
+                "1...1"), Board.Mode.WRAP, CELL);
+
+        int wallEntry = Board.entry(board.cellAt(new Point(20, 0)), Board.RIGHT);
+        assertEquals(new Point(0, 0), board.point(board.nextCell(wallEntry)));
+        assertEquals(Board.REFLECTED, board.transition(wallEntry));
+
+        int portalEntry = Board.entry(board.cellAt(new Point(20, 20)), Board.LEFT);
+        assertEquals(new Point(80, 20), board.point(board.nextCell(portalEntry)));
+        assertEquals(Board.TELEPORTED, board.transition(portalEntry));
+
+        assertFalse(board.isFree(new Point(40, 0)), "Стена не должна быть свободной клеткой");
+        assertThrows(IllegalArgumentException.class,
+                () -> Board.parse(List.of("1...."), Board.Mode.REFLECT, CELL),
+                "Портал без пары должен отклоняться");
+    }
+
+    /**
+     * Тест движения змейки по полю с проходом сквозь край.
+     */
+    @Test
+    void testSnakeMovesThroughEdgeInWrapMode() {
+        Board board = Board.create(100, 60, Board.Mode.WRAP, CELL);
+        Snake snake = new Snake(80, 20);
+
+        assertFalse(snake.move(board));
+        assertEquals(new Point(0, 20), snake.getHead(), "Голова должна появиться с другой стороны поля");
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.snakegame2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для тестирования шины игровых событий GameEventBus.
+ * Проверяет доставку событий нескольким подписчикам и публикацию событий игрой.
+ */
+public class GameEventBusTest {
+
+    /**
+     * Тест доставки всех событий по порядку каждому подписчику.
+     * Производитель не ждет подписчиков; буфер вмещает все события, поэтому потерь нет.
+     */
+    @Test
+    void testEveryListenerReceivesEventsInOrder() throws InterruptedException {
+        int count = 200;
+        try (GameEventBus bus = new GameEventBus(256)) {
+            List<Long> first = new CopyOnWriteArrayList<>();
+            List<Long> second = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(2);
+            GameEventBus.Subscription a = bus.subscribe("first", event -> {
+                first.add(event.getTick());
+                if (event.getTick() == count - 1) done.countDown();
+            });
+            GameEventBus.Subscription b = bus.subscribe("second", event -> {
+                second.add(event.getTick());
+                if (event.getTick() == count - 1) done.countDown();
+            });
+
+            for (int i = 0; i < count; i++) {
+                bus.publish(GameEventType.APPLE_EATEN, i, i, -i, 1);
+            }
+
+            assertTrue(done.await(5, TimeUnit.SECONDS), "Подписчики должны получить все события");
+            assertEquals(count, first.size());
+            assertEquals(count, second.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, first.get(i), "События должны приходить по порядку");
+                assertEquals(i, second.get(i), "События должны приходить по порядку");
+            }
+            assertEquals(0, a.getLost() + b.getLost(), "Событий не должно теряться");
+        }
+    }
+
+    /**
+     * Тест отставшего подписчика: производитель обгоняет его на несколько кругов буфера,
+     * не дожидаясь. Пропущенные события учитываются в потерях, доставленные идут по порядку,
+     * и каждое доставленное событие целое (поля не смешаны из разных публикаций).
+     */
+    @Test
+    void testLappedSubscriberCountsLostEvents() throws InterruptedException {
+        int capacity = 16;
+        int count = 20_000;
+        try (GameEventBus bus = new GameEventBus(capacity)) {
+            List<Long> received = new CopyOnWriteArrayList<>();
+            List<String> torn = new CopyOnWriteArrayList<>();
+            CountDownLatch release = new CountDownLatch(1);
+            GameEventBus.Subscription slow = bus.subscribe("slow", event -> {
+                if (event.getX() != event.getTick() || event.getY() != -event.getTick()
+                        || event.getValue() != (int) event.getTick() * 3) {
+                    torn.add(event.toString());
+                }
+                received.add(event.getTick());
+                try {
+                    // Первое событие держит подписчика, пока производитель не обгонит его
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            for (int i = 0; i < count; i++) {
+                bus.publish(GameEventType.SNAKE_GROWN, i, i, -i, i * 3);
+                if (i == capacity * 4) {
+                    release.countDown();
+                }
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (slow.getProcessed() <= bus.getCursor() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(count, slow.getProcessed(), "Подписчик должен дойти до последнего события");
+            assertTrue(slow.getLost() > 0, "Обогнанный подписчик должен учесть потерянные события");
+            assertEquals(count, received.size() + slow.getLost(), "Каждое событие либо доставлено, либо потеряно");
+            assertEquals(List.of(), torn, "Доставленные события не должны быть смесью разных публикаций");
+            for (int i = 1; i < received.size(); i++) {
+                assertTrue(received.get(i - 1) < received.get(i), "События должны приходить по порядку");
+            }
+        }
+    }
+
+    /**
+     * Тест публикации событий игрой: отражение от границы попадает в шину.
+     */
+    @Test
+    void testGamePublishesReflection() throws InterruptedException {
+        try (GameEventBus bus = new GameEventBus()) {
+            CountDownLatch reflected = new CountDownLatch(1);
+            bus.subscribe("test", event -> {
+                if (event.getType() == GameEventType.BOUNDARY_REFLECTED) reflected.countDown();
+            });
+
+            Game game = new Game(Board.create(100, 60, Board.Mode.REFLECT, Game.CELL_SIZE));
+            game.setEventBus(bus);
+            for (int i = 0; i < 5 && !game.isGameOver(); i++) {
+                game.tick();
+            }
+
+            assertTrue(reflected.await(5, TimeUnit.SECONDS), "Отражение от границы должно попасть в шину");
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.snakegame2;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для тестирования разбора логов и индекса LogIndex.
+ * Проверяет оба формата строк, сохранение индекса и агрегирующие запросы.
+ */
+public class LogIndexTest {
+
+    /**
+     * Тест разбора строки в формате log-pattern.
+     * Проверяет время, уровень, логгер и тип события.
+     */
+    @Test
+    void testParsePatternLine() {
+        LogIndex index = parse("2025-12-10 18:07:12.037 [JavaFX Application Thread] ERROR Snake - "
+                + "Змейка столкнулась с собой в (340, 80)! Конец игры.");
+
+        assertEquals(1, index.size(), "Строка должна быть распознана");
+        assertEquals("2025-12-10 18:07:12.037", LogParser.formatTimestamp(index.getTimestamp(0)));
+        assertEquals(LogIndex.levelCode("ERROR"), index.getLevel(0));
+        assertEquals("Snake", index.getLogger(0));
+        assertEquals(LogEventType.SELF_COLLISION, index.getType(0));
+    }
+
+    /**
+     * Тест разбора строки старого формата и пропуска строк без метки времени.
+     */
+    @Test
+    void testParseLegacyLineAndSkipStackTrace() {
+        LogIndex index = parse("[2025-12-04 18:42:08.161] [INFO] Яблоко сгенерировано в позиции: (460, 580)",
+                "\tat javafx.graphics/com.sun.javafx.application.PlatformImpl.runLater(PlatformImpl.java:1)");
+
+        assertEquals(1, index.size(), "Стек вызовов не должен попадать в индекс");
+        assertEquals(LogParser.UNKNOWN_LOGGER, index.getLogger(0));
+        assertEquals(LogEventType.APPLE_SPAWNED, index.getType(0));
+    }
+
+    /**
+     * Тест построения индекса по каталогу, сохранения, загрузки и запросов.
+     */
+    @Test
+    void testBuildSaveLoadAndQuery(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("game-2025-12-05-1.log"), List.of(
+                "2025-12-05 10:00:00.000 [main] INFO  SnakeGame - " + "=".repeat(50),
+                "2025-12-05 10:00:00.000 [main] INFO  SnakeGame - ЗАПУСК ИГРЫ 'ЗМЕЙКА'",
+                "2025-12-05 10:00:00.100 [main] DEBUG Apple - Генерация новой позиции для яблока...",
+                "2025-12-05 10:00:00.130 [main] INFO  Apple - Яблоко сгенерировано в позиции: (0, 0)",
+                "2025-12-05 10:00:01.000 [main] INFO  Apple - Яблоко съедено в позиции (0, 0)",
+                "2025-12-05 10:00:01.500 [main] INFO  SnakeGame - Закрытие игры",
+                "2025-12-05 10:00:01.999 [main] INFO  SnakeGame - " + "=".repeat(50),
+                "2025-12-05 10:00:02.000 [main] INFO  SnakeGame - ЗАПУСК ИГРЫ 'ЗМЕЙКА'",
+                "2025-12-05 10:00:02.500 [main] INFO  Snake - Столкновение с границей в (800, 0). Отражение...",
+                "2025-12-05 10:00:09.000 [main] INFO  SnakeGame - " + "=".repeat(50)
+        ), StandardCharsets.UTF_8);
+        Files.write(dir.resolve("errors-2025-12-05-1.log"), List.of(
+                "2025-12-05 10:00:03.000 [main] ERROR Snake - Змейка столкнулась с собой в (0, 0)! Конец игры."
+        ), StandardCharsets.UTF_8);
+
+        Path indexFile = dir.resolve("logs.idx");
+        LogAnalytics.buildIndex(dir).save(indexFile);
+        LogIndex index = LogIndex.load(indexFile);
+
+        assertEquals(11, index.size(), "В индекс должны попасть записи обоих файлов");
+
+        List<LogIndex.Session> sessions = index.sessions(new LogIndex.Filter());
+        assertEquals(2, sessions.size(), "В логе две игровые сессии");
+        assertEquals(1, sessions.get(0).getCount(LogEventType.APPLE_EATEN));
+        assertEquals(1, sessions.get(1).getCount(LogEventType.BOUNDARY_COLLISION));
+        assertEquals(LogParser.parseTimestamp("2025-12-05 10:00:01.500"), sessions.get(0).getEnd(),
+                "Сессия заканчивается закрытием игры, а не рамкой следующего запуска");
+        assertEquals(LogParser.parseTimestamp("2025-12-05 10:00:02.500"), sessions.get(1).getEnd(),
+                "Без завершения сессия заканчивается последним распознанным событием");
+
+        long[] spawn = index.appleSpawnStats(new LogIndex.Filter());
+        assertEquals(1, spawn[0]);
+        assertEquals(30, spawn[1], "Генерация яблока заняла 30 мс");
+
+        LogIndex.Filter errors = new LogIndex.Filter();
+        errors.source = LogIndex.SOURCE_ERRORS;
+        errors.from = LogParser.parseTimestamp("2025-12-05 10:00:02.000");
+        assertEquals(1, index.count(errors));
+    }
+
+    /**
+     * Тест ошибки, записанной и в основной лог, и в лог ошибок:
+     * по умолчанию она считается один раз.
+     */
+    @Test
+    void testErrorInBothFilesIsCountedOnce(@TempDir Path dir) throws IOException {
+        String line = "2025-12-05 10:00:03.000 [main] ERROR Snake - Змейка столкнулась с собой в (0, 0)! Конец игры.";
+        Files.write(dir.resolve("game-2025-12-05-1.log"), List.of(line), StandardCharsets.UTF_8);
+        Files.write(dir.resolve("errors-2025-12-05-1.log"), List.of(line), StandardCharsets.UTF_8);
+
+        LogIndex index = LogAnalytics.buildIndex(dir);
+        LogIndex.Filter filter = new LogIndex.Filter();
+        filter.type = LogEventType.SELF_COLLISION;
+
+        assertEquals(2, index.size(), "Строка есть в обоих файлах");
+        assertEquals(1, index.count(filter), "По умолчанию ошибка считается один раз");
+        assertEquals(1, index.countByType(new LogIndex.Filter())[LogEventType.SELF_COLLISION.ordinal()]);
+        filter.source = -1;
+        assertEquals(2, index.count(filter), "С обоими источниками видны обе записи");
+    }
+
+    /**
+     * Тест запросов по спискам номеров записей: результаты для индекса в памяти
+     * и отображенного из файла совпадают с полным перебором записей.
+     * Записи добавляются не по порядку времени, с повторяющимися временами.
+     */
+    @Test
+    void testPostingQueriesMatchFullScan(@TempDir Path dir) throws IOException {
+        String[] loggerNames = {"Snake", "Apple", "GamePanel"};
+        LogEventType[] types = LogEventType.values();
+        Random random = new Random(42);
+        LogIndex.Builder builder = new LogIndex.Builder();
+        for (int i = 0; i < 5000; i++) {
+            builder.add(1_700_000_000_000L + random.nextInt(100_000), random.nextInt(LogIndex.LEVELS.length),
+                    loggerNames[random.nextInt(loggerNames.length)], types[random.nextInt(types.length)],
+                    (byte) random.nextInt(2));
+        }
+        LogIndex built = builder.build();
+        Path indexFile = dir.resolve("logs.idx");
+        built.save(indexFile);
+        LogIndex loaded = LogIndex.load(indexFile);
+
+        for (int i = 1; i < built.size(); i++) {
+            assertTrue(built.getTimestamp(i - 1) <= built.getTimestamp(i), "Записи должны идти по времени");
+        }
+
+        for (int q = 0; q < 200; q++) {
+            LogIndex.Filter filter = new LogIndex.Filter();
+            filter.from = 1_700_000_000_000L + random.nextInt(50_000);
+            filter.to = filter.from + random.nextInt(60_000);
+            filter.level = random.nextBoolean() ? random.nextInt(LogIndex.LEVELS.length) : -1;
+            filter.logger = random.nextBoolean() ? random.nextInt(loggerNames.length) : -1;
+            filter.type = random.nextBoolean() ? types[random.nextInt(types.length)] : null;
+            filter.source = random.nextBoolean() ? random.nextInt(2) : -1;
+
+            long[] expected = new long[types.length];
+            for (int i = 0; i < built.size(); i++) {
+                long time = built.getTimestamp(i);
+                if (time >= filter.from && time < filter.to && built.matches(i, filter)) {
+                    expected[built.getType(i).ordinal()]++;
+                }
+            }
+            assertArrayEquals(expected, built.countByType(filter), "Индекс в памяти, запрос " + q);
+            assertArrayEquals(expected, loaded.countByType(filter), "Отображенный индекс, запрос " + q);
+        }
+    }
+
+    private static LogIndex parse(String... lines) {
+        LogIndex.Builder builder = new LogIndex.Builder();
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            LogParser.parseLine(bytes, bytes.length, LogIndex.SOURCE_GAME, builder);
+        }
+        return builder.build();
+    }
+}
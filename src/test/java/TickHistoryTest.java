@@ -0,0 +1,62 @@
+package com.example.snakegame2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для тестирования истории тактов TickHistory.
+ * Проверяет кольцевую запись и восстановление тела змейки по изменениям.
+ */
+public class TickHistoryTest {
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+
+    /**
+     * Тест вытеснения старых тактов при заполнении буфера.
+     */
+    @Test
+    void testRingBufferOverwritesOldestTick() {
+        TickHistory history = new TickHistory(3);
+        for (int i = 0; i < 5; i++) {
+            history.record(i, 0, 0, 0, false, false, 1, 0, 0, 0, 0);
+        }
+
+        assertEquals(3, history.size(), "Размер истории не должен превышать емкость");
+        assertEquals(5, history.getTotalTicks());
+        assertEquals(4, history.getHeadX(0), "Возраст 0 — последний такт");
+        assertEquals(2, history.getHeadX(2), "Самый старый сохраненный такт");
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getHeadX(3));
+    }
+
+    /**
+     * Тест восстановления тела змейки на прошлых тактах игры.
+     * Сравнивает восстановленное тело с фактическими снимками после каждого такта.
+     */
+    @Test
+    void testReconstructBodyMatchesSnapshots() {
+        Game game = new Game(WIDTH, HEIGHT);
+        Snake snake = game.getSnake();
+        snake.grow();
+        snake.grow();
+
+        List<List<Point>> snapshots = new ArrayList<>();
+        int[][] directions = {{1, 0}, {0, 1}, {0, 1}, {-1, 0}, {0, -1}, {-1, 0}};
+        for (int[] direction : directions) {
+            snake.setDirection(direction[0], direction[1]);
+            game.tick();
+            snapshots.add(snake.getBody());
+        }
+
+        TickHistory history = game.getHistory();
+        assertEquals(directions.length, history.size());
+        for (int age = 0; age < snapshots.size(); age++) {
+            List<Point> expected = snapshots.get(snapshots.size() - 1 - age);
+            assertEquals(expected, new ArrayList<>(history.reconstructBody(snake.getBody(), age)),
+                    "Тело на такте -" + age + " должно совпадать со снимком");
+        }
+    }
+}
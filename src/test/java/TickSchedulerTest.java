@@ -0,0 +1,163 @@
+package com.example.snakegame2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Класс для тестирования планировщика тактов TickScheduler и моделей скорости.
+ * Проверяет, что при неровном шаге кадров такты не теряются и не удваиваются.
+ */
+public class TickSchedulerTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final long FRAME_60_HZ = SECOND / 60;
+
+    /**
+     * Тест скорости ниже частоты кадров: дробная часть переносится между кадрами.
+     */
+    @Test
+    void testFractionalSpeedAccumulatesAcrossFrames() {
+        TickScheduler scheduler = new TickScheduler();
+        int[] ticks = {0};
+        long now = 0;
+        scheduler.advance(now, () -> 7.5, () -> ticks[0]++);
+        for (int frame = 0; frame < 60 * 4; frame++) {
+            now += FRAME_60_HZ;
+            int done = scheduler.advance(now, () -> 7.5, () -> ticks[0]++);
+            assertTrue(done <= 1, "При 7.5 такта/с за кадр не больше одного такта");
+        }
+
+        assertEquals(29, ticks[0], "За 4 с при 7.5 такта/с должно пройти 30 тактов без последнего неполного");
+        assertEquals(ticks[0], scheduler.getTotalTicks());
+    }
+
+    /**
+     * Тест скорости выше частоты кадров при неровном шаге кадров:
+     * количество тактов за кадр отличается от среднего не больше чем на один,
+     * а общее количество совпадает с прошедшим временем.
+     */
+    @Test
+    void testHighSpeedWithJitteredFrames() {
+        TickScheduler scheduler = new TickScheduler();
+        double speed = 300;
+        int[] ticks = {0};
+        long now = 0;
+        scheduler.advance(now, () -> speed, () -> ticks[0]++);
+
+        long[] jitter = {-3_000_000, 2_000_000, 0, 4_000_000, -2_500_000, -500_000};
+        for (int frame = 0; frame < 600; frame++) {
+            long frameNanos = FRAME_60_HZ + jitter[frame % jitter.length];
+            now += frameNanos;
+            int done = scheduler.advance(now, () -> speed, () -> ticks[0]++);
+            double expected = frameNanos * speed / SECOND;
+            assertTrue(Math.abs(done - expected) < 1.0,
+                    "Кадр " + frame + ": " + done + " тактов, ожидалось около " + expected);
+        }
+
+        long expectedTotal = (long) Math.floor(now * speed / SECOND);
+        assertTrue(Math.abs(ticks[0] - expectedTotal) <= 1,
+                "Выполнено " + ticks[0] + " тактов, ожидалось " + expectedTotal);
+    }
+
+    /**
+     * Тест изменения скорости внутри кадра: скорость запрашивается перед каждым тактом.
+     */
+    @Test
+    void testSpeedChangeAppliesImmediately() {
+        TickScheduler scheduler = new TickScheduler();
+        int[] ticks = {0};
+        scheduler.advance(0, () -> 100, () -> ticks[0]++);
+
+        // Первые 10 тактов идут со скоростью 100, дальше — 400
+        scheduler.advance(SECOND / 5, () -> ticks[0] < 10 ? 100 : 400, () -> ticks[0]++);
+
+        assertEquals(50, ticks[0], "0.1 с при 100 такт/с и 0.1 с при 400 такт/с");
+    }
+
+    /**
+     * Тест зависания: время длинного кадра ограничивается, лавины тактов не происходит.
+     */
+    @Test
+    void testLongFrameIsClamped() {
+        TickScheduler scheduler = new TickScheduler();
+        scheduler.advance(0, () -> 100, () -> { });
+
+        int done = scheduler.advance(5 * SECOND, () -> 100, () -> { });
+
+        assertEquals(100 * TickScheduler.MAX_FRAME_NANOS / SECOND, done,
+                "После зависания учитывается не больше MAX_FRAME_NANOS");
+    }
+
+    /**
+     * Тест ограничения тактов за кадр: если игра не успевает, лишние такты отбрасываются,
+     * а не переносятся, и следующий обычный кадр выполняет обычное количество тактов.
+     */
+    @Test
+    void testTicksPerFrameAreCapped() {
+        TickScheduler scheduler = new TickScheduler();
+        int[] ticks = {0};
+        scheduler.advance(0, () -> 1000, () -> ticks[0]++);
+
+        int done = scheduler.advance(TickScheduler.MAX_FRAME_NANOS, () -> 1000, () -> ticks[0]++);
+        assertEquals(TickScheduler.MAX_TICKS_PER_FRAME, done, "За кадр не больше MAX_TICKS_PER_FRAME тактов");
+        assertEquals(250 - TickScheduler.MAX_TICKS_PER_FRAME, scheduler.getDroppedTicks(),
+                "Лишние такты должны быть отброшены");
+
+        done = scheduler.advance(TickScheduler.MAX_FRAME_NANOS + 10_000_000, () -> 1000, () -> ticks[0]++);
+        assertEquals(10, done, "После отброса отставание не должно переноситься на следующий кадр");
+    }
+
+    /**
+     * Тест некорректной скорости: бесконечная, нулевая и слишком большая скорость отклоняются,
+     * а не подвешивают игровой цикл.
+     */
+    @Test
+    void testInvalidSpeedIsRejected() {
+        TickScheduler scheduler = new TickScheduler();
+        scheduler.advance(0, () -> 10, () -> { });
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.advance(FRAME_60_HZ, () -> Double.POSITIVE_INFINITY, () -> { }));
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.advance(2 * FRAME_60_HZ, () -> 0, () -> { }));
+
+        assertThrows(IllegalArgumentException.class, () -> SpeedModel.fixed("Бесконечно", Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> SpeedModel.fixed("NaN", Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> SpeedModel.fixed("Слишком быстро", 1e12));
+        assertEquals(300, SpeedModel.fixed("Бот", 300).ticksPerSecond(null));
+    }
+
+    /**
+     * Тест адаптивной модели: скорость растет с длиной змейки и с быстротой реакции игрока.
+     */
+    @Test
+    void testAdaptiveSpeedDependsOnLengthAndReaction() {
+        Game game = new Game(800, 600);
+        AdaptiveSpeedModel model = new AdaptiveSpeedModel();
+
+        double initial = model.ticksPerSecond(game);
+        for (int i = 0; i < 8; i++) {
+            game.getSnake().grow();
+        }
+        double longer = model.ticksPerSecond(game);
+        assertTrue(longer > initial, "Длинная змейка должна двигаться быстрее");
+
+        model.onAppleSpawned(0);
+        model.onPlayerInput(SECOND / 10);
+        double fastReaction = model.ticksPerSecond(game);
+        assertTrue(fastReaction > longer, "Быстрая реакция должна ускорять игру");
+
+        AdaptiveSpeedModel slowPlayer = new AdaptiveSpeedModel();
+        slowPlayer.onAppleSpawned(0);
+        slowPlayer.onPlayerInput(2 * SECOND);
+        assertTrue(slowPlayer.ticksPerSecond(game) < longer, "Медленная реакция должна замедлять игру");
+
+        // 30 секунд паузы между появлением яблока и поворотом не считаются реакцией
+        AdaptiveSpeedModel pausedPlayer = new AdaptiveSpeedModel();
+        pausedPlayer.onAppleSpawned(0);
+        pausedPlayer.onPaused(SECOND / 20);
+        pausedPlayer.onResumed(30 * SECOND + SECOND / 20);
+        pausedPlayer.onPlayerInput(30 * SECOND + SECOND / 10);
+        assertEquals(fastReaction, pausedPlayer.ticksPerSecond(game), 1e-9,
+                "Время паузы не должно входить во время реакции");
+    }
+}